@@ -0,0 +1,31 @@
+package com.alex.aem.benchmark;
+
+import com.alex.aem.AemApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application context without a web server so benchmarks exercise the real beans and configuration.
+ */
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    /**
+     * Starts the application with the given properties on top of {@code application.properties}.
+     * Application logging is lowered to WARN so log output does not interleave with JMH results.
+     *
+     * @param properties Additional properties in {@code key=value} form.
+     * @return The running context; close it in the trial tear down.
+     */
+    static ConfigurableApplicationContext start(final String... properties) {
+        return new SpringApplicationBuilder(AemApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties("logging.level.com.alex.aem=WARN", "spring.main.banner-mode=off")
+                .properties(properties)
+                .run();
+    }
+}
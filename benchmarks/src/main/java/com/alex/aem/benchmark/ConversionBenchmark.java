@@ -0,0 +1,69 @@
+package com.alex.aem.benchmark;
+
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.service.RomanNumeralConverterService;
+import com.alex.aem.service.RomanNumeralEncoder;
+import com.alex.aem.service.RomanNumeralEngine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single number conversion: the raw engine primitive, the validated service call and the String-free encoder
+ * writing into a reused buffer.
+ * The input cycles through the whole 1..3999 domain so no single value dominates.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    @Param({"lookup", "algorithmic"})
+    private String engineType;
+
+    private ConfigurableApplicationContext context;
+    private RomanNumeralEngine engine;
+    private RomanNumeralConverterService service;
+
+    @State(Scope.Thread)
+    public static class Input {
+        private final byte[] buffer = new byte[RomanNumeralEncoder.WORD_SLACK];
+        private int number;
+
+        int next() {
+            number = number % 3999 + 1;
+            return number;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("roman.converter.engine=" + engineType);
+        engine = context.getBean(RomanNumeralEngine.class);
+        service = context.getBean(RomanNumeralConverterService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String convert(final Input input) {
+        return engine.convert(input.next());
+    }
+
+    @Benchmark
+    public RomanNumeralData convertOneNumber(final Input input) {
+        return service.convertOneNumber(input.next());
+    }
+
+    @Benchmark
+    public int encode(final Input input) {
+        return RomanNumeralEncoder.encode(input.next(), input.buffer, 0);
+    }
+}
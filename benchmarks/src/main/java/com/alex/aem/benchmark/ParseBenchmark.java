@@ -0,0 +1,63 @@
+package com.alex.aem.benchmark;
+
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.service.AlgorithmicRomanNumeralEngine;
+import com.alex.aem.service.RomanNumeralConverterService;
+import com.alex.aem.service.RomanNumeralParser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roman numeral parsing: the raw parser and the validated service call.
+ * The input cycles through all 3999 canonical numerals.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    private final String[] numerals = new String[3999];
+
+    private ConfigurableApplicationContext context;
+    private RomanNumeralConverterService service;
+
+    @State(Scope.Thread)
+    public static class Input {
+        private int index;
+
+        int next() {
+            index = (index + 1) % 3999;
+            return index;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final AlgorithmicRomanNumeralEngine engine = new AlgorithmicRomanNumeralEngine();
+        for (int i = 0; i < numerals.length; i++) {
+            numerals[i] = engine.convert(i + 1);
+        }
+        context = BenchmarkContexts.start();
+        service = context.getBean(RomanNumeralConverterService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int parse(final Input input) {
+        return RomanNumeralParser.parse(numerals[input.next()]);
+    }
+
+    @Benchmark
+    public RomanNumeralData serviceParse(final Input input) {
+        return service.parse(numerals[input.next()]);
+    }
+}
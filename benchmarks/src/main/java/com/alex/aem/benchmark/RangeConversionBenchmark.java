@@ -0,0 +1,51 @@
+package com.alex.aem.benchmark;
+
+import com.alex.aem.data.RomanNumeralConversionsData;
+import com.alex.aem.service.RomanNumeralConverterService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range conversion through the service for small, medium and full ranges under different batch sizes.
+ * A batch size of 0 selects the adaptive batching of the service.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeConversionBenchmark {
+
+    @Param({"lookup", "algorithmic"})
+    private String engineType;
+
+    @Param({"0", "50", "500"})
+    private int batchSize;
+
+    @Param({"10", "500", "3999"})
+    private int rangeSize;
+
+    private ConfigurableApplicationContext context;
+    private RomanNumeralConverterService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(
+                "roman.converter.engine=" + engineType,
+                "roman.converter.batch.size=" + batchSize);
+        service = context.getBean(RomanNumeralConverterService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public RomanNumeralConversionsData convertMultipleNumbers() {
+        return service.convertMultipleNumbers(1, rangeSize);
+    }
+}
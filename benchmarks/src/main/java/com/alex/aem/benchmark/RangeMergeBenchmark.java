@@ -0,0 +1,67 @@
+package com.alex.aem.benchmark;
+
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.service.LookupTableRomanNumeralEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the ways of assembling the batches of a range into one ordered result, without the executor:
+ * the former flatten and re-sort by {@code Integer.parseInt(input)}, and direct writes into a preallocated array.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeMergeBenchmark {
+
+    @Param({"500", "3999"})
+    private int rangeSize;
+
+    @Param({"80"})
+    private int batchSize;
+
+    private LookupTableRomanNumeralEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new LookupTableRomanNumeralEngine();
+    }
+
+    @Benchmark
+    public List<RomanNumeralData> sortedMerge() {
+        final List<List<RomanNumeralData>> batches = new ArrayList<>();
+        for (int start = 1; start <= rangeSize; start += batchSize) {
+            final int end = Math.min(start + batchSize - 1, rangeSize);
+            final List<RomanNumeralData> batch = new ArrayList<>();
+            for (int i = start; i <= end; i++) {
+                batch.add(engine.toData(i));
+            }
+            batches.add(batch);
+        }
+        return batches.stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparing(data -> Integer.parseInt(data.input())))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<RomanNumeralData> indexedMerge() {
+        final RomanNumeralData[] results = new RomanNumeralData[rangeSize];
+        for (int start = 1; start <= rangeSize; start += batchSize) {
+            final int end = Math.min(start + batchSize - 1, rangeSize);
+            for (int i = start; i <= end; i++) {
+                results[i - 1] = engine.toData(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+}
@@ -0,0 +1,57 @@
+package com.alex.aem.benchmark;
+
+import com.alex.aem.data.RomanNumeralConversionsData;
+import com.alex.aem.service.RomanNumeralConverterService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of range conversion results, using the ObjectMapper configured by Spring Boot
+ * so the numbers match what the HTTP layer pays per response.
+ * The columnar range returned by the service is compared with the same conversions held as a list of records.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"10", "500", "3999"})
+    private int rangeSize;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private RomanNumeralConversionsData range;
+    private RomanNumeralConversionsData recordList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        objectMapper = context.getBean(ObjectMapper.class);
+        final RomanNumeralConverterService service = context.getBean(RomanNumeralConverterService.class);
+        range = service.convertMultipleNumbers(1, rangeSize);
+        recordList = new RomanNumeralConversionsData(List.copyOf(range.conversions()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeRange() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(range);
+    }
+
+    @Benchmark
+    public byte[] serializeRecordList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(recordList);
+    }
+}
@@ -0,0 +1,38 @@
+package com.alex.aem.bulk;
+
+/**
+ * Counts and timing of a bulk conversion.
+ *
+ * @param lines            The number of lines converted.
+ * @param invalidLines     The number of lines that did not hold a number within the notation, written as empty lines.
+ * @param firstInvalidLine The 1-based number of the first invalid line, or -1 when every line was valid.
+ * @param bytesRead        The size of the input file.
+ * @param bytesWritten     The size of the output file.
+ * @param elapsedNanos     The duration of the conversion.
+ */
+public record BulkConversionReport(long lines, long invalidLines, long firstInvalidLine, long bytesRead,
+                                   long bytesWritten, long elapsedNanos) {
+
+    /**
+     * @return The lines converted per second.
+     */
+    public double linesPerSecond() {
+        return lines * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    /**
+     * @return A human readable summary of the conversion.
+     */
+    public String format() {
+        final double seconds = elapsedNanos / 1e9;
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("Converted %d lines in %.3f s: %.0f lines/s%n", lines, seconds, linesPerSecond()));
+        report.append(String.format("Read %.1f MiB (%.1f MiB/s), wrote %.1f MiB%n",
+                bytesRead / 1048576.0, bytesRead / 1048576.0 / Math.max(seconds, 1e-9), bytesWritten / 1048576.0));
+        if (invalidLines > 0) {
+            report.append(String.format("%d invalid lines written as empty lines, the first one is line %d%n",
+                    invalidLines, firstInvalidLine));
+        }
+        return report.toString();
+    }
+}
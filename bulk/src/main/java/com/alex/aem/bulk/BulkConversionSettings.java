@@ -0,0 +1,74 @@
+package com.alex.aem.bulk;
+
+import com.alex.aem.service.RomanNotation;
+
+import java.nio.file.Path;
+
+/**
+ * Parameters of a bulk conversion, read from the command line.
+ *
+ * @param input      The file of integers, one per line.
+ * @param output     The file to write the numerals to.
+ * @param notation   The notation of the numerals.
+ * @param threads    The number of chunks converted in parallel.
+ * @param chunkBytes The approximate size of the input chunks, extended to the next line break.
+ */
+public record BulkConversionSettings(Path input, Path output, RomanNotation notation, int threads,
+                                     int chunkBytes) {
+
+    static final String USAGE = """
+            Usage: java -jar aem-bulk.jar <input> <output> [options]
+              --notation=standard|vinculum  Notation of the numerals (default standard)
+              --threads=<n>                 Chunks converted in parallel (default: available processors)
+              --chunk-kib=<n>               Size of the input chunks in KiB (default 1024)
+            """;
+
+    public BulkConversionSettings {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be positive");
+        }
+        if (chunkBytes < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+    }
+
+    /**
+     * Parses {@code <input> <output> [--notation=..] [--threads=..] [--chunk-kib=..]}.
+     *
+     * @param args The command line arguments.
+     * @return The settings, with defaults for missing options.
+     * @throws IllegalArgumentException if an argument is missing or invalid.
+     */
+    public static BulkConversionSettings parse(final String... args) {
+        Path input = null;
+        Path output = null;
+        RomanNotation notation = RomanNotation.STANDARD;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkBytes = 1024 * 1024;
+        for (final String arg : args) {
+            if (arg.startsWith("--notation=")) {
+                notation = RomanNotation.valueOf(value(arg).toUpperCase());
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--chunk-kib=")) {
+                chunkBytes = Math.multiplyExact(Integer.parseInt(value(arg)), 1024);
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            } else if (input == null) {
+                input = Path.of(arg);
+            } else if (output == null) {
+                output = Path.of(arg);
+            } else {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+        }
+        if (output == null) {
+            throw new IllegalArgumentException("Both the input and the output file must be given");
+        }
+        return new BulkConversionSettings(input, output, notation, threads, chunkBytes);
+    }
+
+    private static String value(final String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
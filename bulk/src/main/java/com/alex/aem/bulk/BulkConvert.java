@@ -0,0 +1,34 @@
+package com.alex.aem.bulk;
+
+import java.io.IOException;
+
+/**
+ * Command line entry point of the bulk converter. No application context is started: the conversion tables
+ * are built from the application engines directly.
+ */
+public final class BulkConvert {
+
+    private BulkConvert() {
+    }
+
+    public static void main(final String[] args) {
+        final BulkConversionSettings settings;
+        try {
+            settings = BulkConversionSettings.parse(args);
+        } catch (final IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(BulkConversionSettings.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try {
+            final BulkConversionReport report = new BulkFileConverter(settings)
+                    .convert(settings.input(), settings.output());
+            System.out.print(report.format());
+        } catch (final IOException e) {
+            System.err.println("Bulk conversion failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
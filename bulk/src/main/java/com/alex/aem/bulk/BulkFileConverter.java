@@ -0,0 +1,137 @@
+package com.alex.aem.bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Converts a file of integers, one per line, to a file of Roman numerals, one per line in the same order.
+ * The input is split at line breaks into chunks that are memory-mapped one at a time and converted in parallel;
+ * the main thread writes the converted chunks in order as they complete.
+ * At most a fixed window of chunks is in flight and their output buffers are recycled, so memory use depends on
+ * the chunk size and the number of threads, not on the size of the file.
+ */
+public final class BulkFileConverter {
+
+    private static final int BOUNDARY_SCAN_BYTES = 64 * 1024;
+
+    private final NumeralTable table;
+    private final int threads;
+    private final int chunkBytes;
+
+    /**
+     * @param settings The notation, thread count and chunk size to convert with.
+     */
+    public BulkFileConverter(final BulkConversionSettings settings) {
+        this.table = new NumeralTable(settings.notation());
+        this.threads = settings.threads();
+        this.chunkBytes = settings.chunkBytes();
+    }
+
+    /**
+     * Converts the input file to the output file, replacing it if it exists.
+     *
+     * @param input  The file of integers.
+     * @param output The file to write the numerals to.
+     * @return The counts and timing of the conversion.
+     * @throws IOException if a file cannot be read or written.
+     */
+    public BulkConversionReport convert(final Path input, final Path output) throws IOException {
+        final long start = System.nanoTime();
+        final int window = 2 * threads;
+        final ArrayDeque<Future<ChunkConverter.ConvertedChunk>> inFlight = new ArrayDeque<>(window);
+        final ArrayDeque<byte[]> freeBuffers = new ArrayDeque<>(window);
+        long lines = 0;
+        long invalidLines = 0;
+        long firstInvalidLine = -1;
+        long bytesWritten = 0;
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING);
+             ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size || !inFlight.isEmpty()) {
+                if (position < size && inFlight.size() < window) {
+                    final long end = chunkEnd(in, position, size);
+                    if (end - position > Integer.MAX_VALUE - NumeralTable.MAX_LINE_BYTES) {
+                        throw new IOException("Line starting at byte " + position + " is too long");
+                    }
+                    final ByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                    final byte[] buffer = freeBuffers.isEmpty()
+                            ? new byte[initialOutputBytes(end - position)]
+                            : freeBuffers.pop();
+                    inFlight.add(executor.submit(() -> ChunkConverter.convert(chunk, table, buffer)));
+                    position = end;
+                    continue;
+                }
+
+                final ChunkConverter.ConvertedChunk converted = await(inFlight.poll());
+                final ByteBuffer bytes = ByteBuffer.wrap(converted.output(), 0, converted.length());
+                while (bytes.hasRemaining()) {
+                    out.write(bytes);
+                }
+                freeBuffers.push(converted.output());
+                if (firstInvalidLine < 0 && converted.firstInvalidLine() >= 0) {
+                    firstInvalidLine = lines + converted.firstInvalidLine();
+                }
+                lines += converted.lines();
+                invalidLines += converted.invalidLines();
+                bytesWritten += converted.length();
+            }
+            return new BulkConversionReport(lines, invalidLines, firstInvalidLine < 0 ? -1 : firstInvalidLine + 1,
+                    size, bytesWritten, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return The end of the chunk starting at {@code start}: just after the first line break at or after
+     * {@code start + chunkBytes - 1}, or the end of the file.
+     */
+    private long chunkEnd(final FileChannel in, final long start, final long size) throws IOException {
+        long position = start + chunkBytes - 1;
+        final ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_BYTES);
+        while (position < size) {
+            scan.clear();
+            final int read = in.read(scan, position);
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += Math.max(read, 0);
+            if (read <= 0) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return An output buffer large enough for the usual chunk: standard numerals take at most 3 bytes per input
+     * byte (88 gives LXXXVIII), while the buffer grows on demand for longer vinculum numerals.
+     */
+    private static int initialOutputBytes(final long chunkLength) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, 3 * chunkLength + NumeralTable.MAX_LINE_BYTES);
+    }
+
+    private static ChunkConverter.ConvertedChunk await(final Future<ChunkConverter.ConvertedChunk> chunk)
+            throws IOException {
+        try {
+            return chunk.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while converting", e);
+        } catch (final ExecutionException e) {
+            throw new IOException("Chunk conversion failed", e.getCause());
+        }
+    }
+}
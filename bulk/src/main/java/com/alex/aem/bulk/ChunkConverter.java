@@ -0,0 +1,100 @@
+package com.alex.aem.bulk;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Converts a chunk of whole input lines, read straight from the (memory-mapped) input buffer,
+ * into the matching output lines.
+ * Every input line gives exactly one output line, so output line n always answers input line n:
+ * a decimal number surrounded by optional spaces or tabs gives its numeral, any other line an empty line.
+ */
+final class ChunkConverter {
+
+    /**
+     * Output of one chunk.
+     *
+     * @param output           The buffer holding the output lines, reusable once written.
+     * @param length           The number of bytes of output lines in the buffer.
+     * @param lines            The number of input lines of the chunk.
+     * @param invalidLines     The number of lines that did not hold a number within the notation.
+     * @param firstInvalidLine The index within the chunk of the first invalid line, or -1.
+     */
+    record ConvertedChunk(byte[] output, int length, long lines, long invalidLines, long firstInvalidLine) {}
+
+    private ChunkConverter() {
+    }
+
+    /**
+     * @param input  The chunk, from its position to its limit, ending at a line break or at the end of the file.
+     * @param table  The numerals of the target notation.
+     * @param buffer A buffer to write the output to, replaced by a larger one when too small.
+     * @return The output of the chunk.
+     */
+    static ConvertedChunk convert(final ByteBuffer input, final NumeralTable table, final byte[] buffer) {
+        final int maxValue = table.getMaxValue();
+        final int end = input.limit();
+        byte[] output = buffer;
+        int length = 0;
+        long lines = 0;
+        long invalidLines = 0;
+        long firstInvalidLine = -1;
+
+        int position = input.position();
+        while (position < end) {
+            if (output.length - length < NumeralTable.MAX_LINE_BYTES) {
+                output = Arrays.copyOf(output, (int) Math.min(Integer.MAX_VALUE - 8,
+                        Math.max(2L * output.length, NumeralTable.MAX_LINE_BYTES)));
+            }
+
+            int lineEnd = position;
+            while (lineEnd < end && input.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            final int number = parse(input, position, lineEnd, maxValue);
+            position = lineEnd + 1;
+
+            if (number > 0) {
+                length = table.write(number, output, length);
+            } else {
+                if (firstInvalidLine < 0) {
+                    firstInvalidLine = lines;
+                }
+                invalidLines++;
+            }
+            output[length++] = '\n';
+            lines++;
+        }
+        return new ConvertedChunk(output, length, lines, invalidLines, firstInvalidLine);
+    }
+
+    /**
+     * @return The number held by the line, or 0 when the line does not hold a number between 1 and maxValue.
+     */
+    private static int parse(final ByteBuffer input, final int start, final int end, final int maxValue) {
+        int from = start;
+        int to = end;
+        while (from < to && isBlank(input.get(from))) {
+            from++;
+        }
+        while (to > from && isBlank(input.get(to - 1))) {
+            to--;
+        }
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            final byte digit = input.get(i);
+            if (digit < '0' || digit > '9') {
+                return 0;
+            }
+            number = number * 10 + digit - '0';
+            if (number > maxValue) {
+                return 0;
+            }
+        }
+        return number;
+    }
+
+    private static boolean isBlank(final byte value) {
+        return value == ' ' || value == '\t' || value == '\r';
+    }
+}
@@ -0,0 +1,75 @@
+package com.alex.aem.bulk;
+
+import com.alex.aem.service.LookupTableRomanNumeralEngine;
+import com.alex.aem.service.RomanNotation;
+import com.alex.aem.service.VinculumRomanNumeralFormatter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 encoded numerals of a notation, taken once from the application engines, so converting a number
+ * is a table lookup and an array copy: no String is created per line.
+ * Vinculum numerals above 3999 are assembled from the overlined thousands and the standard remainder.
+ */
+final class NumeralTable {
+
+    private static final int MAX_STANDARD = LookupTableRomanNumeralEngine.MAX_NUMBER;
+
+    /**
+     * Longest encoded numeral plus its line break: the overlined thousands of 3,888,888 (15 letters of
+     * 3 bytes) followed by DCCCLXXXVIII.
+     */
+    static final int MAX_LINE_BYTES = 15 * 3 + 12 + 1;
+
+    private final RomanNotation notation;
+    private final byte[][] standard = new byte[MAX_STANDARD + 1][];
+    private final byte[][] overlined;
+
+    NumeralTable(final RomanNotation notation) {
+        this.notation = notation;
+        final LookupTableRomanNumeralEngine engine = new LookupTableRomanNumeralEngine();
+        for (int number = 1; number <= MAX_STANDARD; number++) {
+            standard[number] = engine.utf8(number);
+        }
+        if (notation == RomanNotation.VINCULUM) {
+            final VinculumRomanNumeralFormatter formatter = new VinculumRomanNumeralFormatter(engine);
+            overlined = new byte[MAX_STANDARD + 1][];
+            // Thousands up to 3 are written in standard notation, i.e. as M, MM and MMM
+            for (int thousands = 4; thousands <= MAX_STANDARD; thousands++) {
+                overlined[thousands] = formatter.convert(thousands * 1000).getBytes(StandardCharsets.UTF_8);
+            }
+        } else {
+            overlined = null;
+        }
+    }
+
+    RomanNotation getNotation() {
+        return notation;
+    }
+
+    int getMaxValue() {
+        return notation.getMaxValue();
+    }
+
+    /**
+     * Writes the numeral of a number within the notation.
+     *
+     * @param number   The number, between 1 and {@link #getMaxValue()}.
+     * @param output   The buffer to write to, with room for {@link #MAX_LINE_BYTES}.
+     * @param position The index to write at.
+     * @return The index after the numeral.
+     */
+    int write(final int number, final byte[] output, final int position) {
+        if (number <= MAX_STANDARD) {
+            return copy(standard[number], output, position);
+        }
+        final int remainder = number % 1000;
+        final int next = copy(overlined[number / 1000], output, position);
+        return remainder == 0 ? next : copy(standard[remainder], output, next);
+    }
+
+    private static int copy(final byte[] numeral, final byte[] output, final int position) {
+        System.arraycopy(numeral, 0, output, position, numeral.length);
+        return position + numeral.length;
+    }
+}
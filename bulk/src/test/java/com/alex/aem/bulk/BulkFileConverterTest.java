@@ -0,0 +1,91 @@
+package com.alex.aem.bulk;
+
+import com.alex.aem.service.AlgorithmicRomanNumeralEngine;
+import com.alex.aem.service.RomanNotation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkFileConverterTest {
+
+    @TempDir
+    private Path directory;
+
+    private BulkConversionReport convert(final String content, final RomanNotation notation, final int threads,
+                                         final int chunkBytes) throws IOException {
+        final Path input = Files.writeString(directory.resolve("input.txt"), content);
+        final BulkFileConverter converter =
+                new BulkFileConverter(new BulkConversionSettings(input, output(), notation, threads, chunkBytes));
+        return converter.convert(input, output());
+    }
+
+    private Path output() {
+        return directory.resolve("output.txt");
+    }
+
+    @Test
+    void Lines_split_across_many_chunks_are_written_in_order() throws IOException {
+        final AlgorithmicRomanNumeralEngine engine = new AlgorithmicRomanNumeralEngine();
+        final String input = IntStream.rangeClosed(1, 3999).mapToObj(Integer::toString)
+                .collect(Collectors.joining("\n", "", "\n"));
+
+        final BulkConversionReport report = convert(input, RomanNotation.STANDARD, 4, 64);
+
+        final List<String> output = Files.readAllLines(output(), StandardCharsets.UTF_8);
+        assertEquals(3999, output.size());
+        for (int number = 1; number <= 3999; number++) {
+            assertEquals(engine.convert(number), output.get(number - 1));
+        }
+        assertEquals(3999, report.lines());
+        assertEquals(0, report.invalidLines());
+        assertEquals(-1, report.firstInvalidLine());
+    }
+
+    @Test
+    void Invalid_lines_are_written_empty_and_reported() throws IOException {
+        final BulkConversionReport report = convert(" 12\t\r\n\nabc\n4000\n0042\n1 2\n7", RomanNotation.STANDARD, 2, 4);
+
+        assertEquals(List.of("XII", "", "", "", "XLII", "", "VII"), Files.readAllLines(output()));
+        assertEquals(7, report.lines());
+        assertEquals(4, report.invalidLines());
+        assertEquals(2, report.firstInvalidLine());
+    }
+
+    @Test
+    void Vinculum_numerals_are_written_in_utf8() throws IOException {
+        convert("3999\n4000\n3999999\n4000000\n", RomanNotation.VINCULUM, 1, 1024);
+
+        assertEquals(List.of("MMMCMXCIX", "I\u0305V\u0305",
+                        "M\u0305M\u0305M\u0305C\u0305M\u0305X\u0305C\u0305I\u0305X\u0305CMXCIX", ""),
+                Files.readAllLines(output(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void Empty_file_gives_empty_output() throws IOException {
+        final BulkConversionReport report = convert("", RomanNotation.STANDARD, 1, 1024);
+
+        assertEquals(0, Files.size(output()));
+        assertEquals(0, report.lines());
+    }
+
+    @Test
+    void Arguments_are_parsed_with_defaults() {
+        final BulkConversionSettings settings = BulkConversionSettings.parse("in.txt", "out.txt", "--notation=vinculum");
+
+        assertEquals(Path.of("in.txt"), settings.input());
+        assertEquals(Path.of("out.txt"), settings.output());
+        assertEquals(RomanNotation.VINCULUM, settings.notation());
+        assertEquals(1024 * 1024, settings.chunkBytes());
+        assertThrows(IllegalArgumentException.class, () -> BulkConversionSettings.parse("in.txt"));
+        assertThrows(IllegalArgumentException.class, () -> BulkConversionSettings.parse("in.txt", "out.txt", "--x=1"));
+    }
+}
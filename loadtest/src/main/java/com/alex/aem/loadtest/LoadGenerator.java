@@ -0,0 +1,137 @@
+package com.alex.aem.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started at a constant rate, whatever the response times,
+ * and each one runs on its own virtual thread with at most {@code concurrency} requests in flight.
+ * Latency is measured from the time a request was scheduled to start rather than from when it was sent,
+ * so a slow server cannot hide its queueing delay by slowing the generator down (coordinated omission).
+ */
+public class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    private final Workload[] schedule;
+
+    public LoadGenerator(final LoadTestSettings settings) {
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(settings.httpVersion())
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.schedule = buildSchedule(settings.mix());
+    }
+
+    /**
+     * Runs the warmup phase, then the measured phase, against a server.
+     *
+     * @param baseUri The base URI of the server, e.g. {@code http://localhost:8080}.
+     * @return The results of the measured phase.
+     * @throws InterruptedException if the run is interrupted.
+     */
+    public LoadTestReport run(final URI baseUri) throws InterruptedException {
+        final SplittableRandom random = new SplittableRandom(settings.seed());
+        runPhase(baseUri, random, settings.warmup());
+        return runPhase(baseUri, random, settings.duration());
+    }
+
+    private LoadTestReport runPhase(final URI baseUri, final SplittableRandom random, final Duration duration)
+            throws InterruptedException {
+        final Map<Workload, Recorder> recorders = new EnumMap<>(Workload.class);
+        for (final Workload workload : Workload.values()) {
+            recorders.put(workload, new Recorder(3));
+        }
+        final LongAdder unexpected = new LongAdder();
+        final Semaphore inFlight = new Semaphore(settings.concurrency());
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.requestsPerSecond();
+
+        final long start = System.nanoTime();
+        final long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intended = start; intended < end; intended += intervalNanos) {
+                parkUntil(intended);
+                final Workload workload = schedule[random.nextInt(schedule.length)];
+                final URI uri = baseUri.resolve(workload.path(random, settings.rangeSize()));
+                final long scheduledAt = intended;
+                // Blocks the schedule when saturated; the wait is part of the latency of the next requests
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        send(workload, uri, scheduledAt, recorders.get(workload), unexpected);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        final double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        final List<LoadTestReport.WorkloadResult> results = new ArrayList<>();
+        long completed = 0;
+        for (final Map.Entry<Workload, Recorder> entry : recorders.entrySet()) {
+            final Histogram histogram = entry.getValue().getIntervalHistogram();
+            completed += histogram.getTotalCount();
+            if (histogram.getTotalCount() > 0) {
+                results.add(LoadTestReport.WorkloadResult.of(entry.getKey(), histogram));
+            }
+        }
+        return new LoadTestReport(completed / elapsedSeconds, unexpected.sum(), results);
+    }
+
+    private void send(final Workload workload, final URI uri, final long scheduledAt, final Recorder recorder,
+                      final LongAdder unexpected) {
+        final HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+        try {
+            final HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt));
+            if (response.statusCode() != workload.getExpectedStatus()) {
+                unexpected.increment();
+            }
+        } catch (final IOException e) {
+            unexpected.increment();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void parkUntil(final long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Expands the weights of the mix into a table drawn from uniformly, e.g. 70 SINGLE, 20 RANGE and 10 ERROR entries.
+     */
+    private static Workload[] buildSchedule(final Map<Workload, Integer> mix) {
+        final List<Workload> schedule = new ArrayList<>();
+        mix.forEach((workload, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(workload);
+            }
+        });
+        return schedule.toArray(Workload[]::new);
+    }
+}
@@ -0,0 +1,82 @@
+package com.alex.aem.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Results of the measured phase of a load test run. Latencies are in microseconds, measured from the time
+ * each request was scheduled to start, so queueing behind a saturated server is included.
+ *
+ * @param requestsPerSecond The requests completed per second.
+ * @param unexpected        The number of requests that failed or answered with an unexpected status.
+ * @param workloads         The results of each workload.
+ */
+public record LoadTestReport(double requestsPerSecond, long unexpected, List<WorkloadResult> workloads) {
+
+    /**
+     * Latency distribution of one workload.
+     */
+    public record WorkloadResult(Workload workload, long count, double mean, long p50, long p90, long p99,
+                                 long p999, long max) {
+
+        static WorkloadResult of(final Workload workload, final Histogram histogram) {
+            return new WorkloadResult(workload, histogram.getTotalCount(), histogram.getMean(),
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue());
+        }
+    }
+
+    /**
+     * @return A human readable table of the results.
+     */
+    public String format() {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("Throughput: %.1f requests/s, unexpected responses: %d%n",
+                requestsPerSecond, unexpected));
+        report.append(String.format("%-8s %10s %10s %10s %10s %10s %10s %10s%n",
+                "workload", "count", "mean(us)", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)"));
+        for (final WorkloadResult result : workloads) {
+            report.append(String.format("%-8s %10d %10.1f %10d %10d %10d %10d %10d%n",
+                    result.workload().name().toLowerCase(), result.count(), result.mean(),
+                    result.p50(), result.p90(), result.p99(), result.p999(), result.max()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * @return The values compared by the {@link RegressionGate}, keyed like the baseline file.
+     */
+    public Map<String, Long> toBaseline() {
+        final Map<String, Long> values = new TreeMap<>();
+        values.put("throughput", Math.round(requestsPerSecond));
+        for (final WorkloadResult result : workloads) {
+            final String prefix = result.workload().name().toLowerCase();
+            values.put(prefix + ".p50", result.p50());
+            values.put(prefix + ".p99", result.p99());
+        }
+        return values;
+    }
+
+    /**
+     * Stores the results as the new baseline.
+     *
+     * @param path The baseline file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeBaseline(final Path path) throws IOException {
+        final Properties properties = new Properties();
+        toBaseline().forEach((key, value) -> properties.setProperty(key, Long.toString(value)));
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, "Load test baseline, latencies in microseconds");
+        }
+    }
+}
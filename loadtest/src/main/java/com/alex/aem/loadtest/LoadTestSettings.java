@@ -0,0 +1,85 @@
+package com.alex.aem.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parameters of a load test run.
+ *
+ * @param requestsPerSecond The constant rate at which requests are started.
+ * @param concurrency       The maximum number of requests in flight.
+ * @param warmup            The duration of the warmup phase, whose results are discarded.
+ * @param duration          The duration of the measured phase.
+ * @param mix               The relative weight of each workload.
+ * @param rangeSize         The number of conversions of range requests.
+ * @param seed              The seed of the request sequence, so runs send the same requests.
+ * @param httpVersion       The HTTP version requested from the server: HTTP/2 over cleartext connections is
+ *                          negotiated with an Upgrade and falls back to HTTP/1.1 when the server does not support it.
+ * @param baseline          The file holding the baseline results.
+ * @param tolerance         The relative regression allowed over the baseline, e.g. 0.25 for 25%.
+ * @param minSlackMicros    The absolute latency regression always allowed, so sub-millisecond noise does not fail.
+ * @param updateBaseline    Whether to store the results as the new baseline instead of checking them.
+ */
+public record LoadTestSettings(int requestsPerSecond,
+                               int concurrency,
+                               Duration warmup,
+                               Duration duration,
+                               Map<Workload, Integer> mix,
+                               int rangeSize,
+                               long seed,
+                               HttpClient.Version httpVersion,
+                               Path baseline,
+                               double tolerance,
+                               long minSlackMicros,
+                               boolean updateBaseline) {
+
+    /**
+     * Reads the settings from {@code loadtest.*} system properties, e.g. {@code -Dloadtest.rps=5000}.
+     *
+     * @return The settings, with defaults for missing properties.
+     */
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.rps", 1000),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 20)),
+                parseMix(System.getProperty("loadtest.mix", "single:70,range:20,error:10")),
+                Integer.getInteger("loadtest.range-size", 100),
+                Long.getLong("loadtest.seed", 42),
+                HttpClient.Version.valueOf(System.getProperty("loadtest.http-version", "HTTP_1_1")),
+                Path.of(System.getProperty("loadtest.baseline", "baseline.properties")),
+                Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25")),
+                Long.getLong("loadtest.min-slack-micros", 1000),
+                Boolean.getBoolean("loadtest.update-baseline"));
+    }
+
+    /**
+     * Parses a workload mix such as {@code single:70,range:20,error:10}.
+     *
+     * @param mix The comma separated {@code workload:weight} pairs.
+     * @return The weight of each workload.
+     * @throws IllegalArgumentException if a workload or weight is invalid.
+     */
+    static Map<Workload, Integer> parseMix(final String mix) {
+        final Map<Workload, Integer> weights = new EnumMap<>(Workload.class);
+        for (final String entry : mix.split(",")) {
+            final String[] parts = entry.strip().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid workload mix entry: " + entry);
+            }
+            final int weight = Integer.parseInt(parts[1].strip());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative workload weight: " + entry);
+            }
+            weights.put(Workload.valueOf(parts[0].strip().toUpperCase()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("The workload mix must have a positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,74 @@
+package com.alex.aem.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Compares load test results with a stored baseline.
+ * Throughput must not drop and latency percentiles must not grow by more than the tolerance.
+ */
+public final class RegressionGate {
+
+    private RegressionGate() {
+    }
+
+    /**
+     * Loads a baseline written by {@link LoadTestReport#writeBaseline(Path)}.
+     *
+     * @param path The baseline file.
+     * @return The baseline values.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Properties load(final Path path) throws IOException {
+        final Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            baseline.load(reader);
+        }
+        return baseline;
+    }
+
+    /**
+     * Checks the results against the baseline. Values missing from the baseline are not checked.
+     *
+     * @param report         The results of the run.
+     * @param baseline       The baseline values.
+     * @param tolerance      The relative regression allowed, e.g. 0.25 for 25%.
+     * @param minSlackMicros The absolute latency regression always allowed.
+     * @return One message per regression, empty when the run is within the baseline.
+     */
+    public static List<String> check(final LoadTestReport report, final Properties baseline,
+                                     final double tolerance, final long minSlackMicros) {
+        final List<String> regressions = new ArrayList<>();
+        if (report.unexpected() > 0) {
+            regressions.add(report.unexpected() + " requests failed or answered with an unexpected status");
+        }
+        for (final Map.Entry<String, Long> entry : report.toBaseline().entrySet()) {
+            final String expected = baseline.getProperty(entry.getKey());
+            if (expected == null) {
+                continue;
+            }
+            final long baselineValue = Long.parseLong(expected.strip());
+            final long value = entry.getValue();
+            if (entry.getKey().equals("throughput")) {
+                final double minimum = baselineValue * (1 - tolerance);
+                if (value < minimum) {
+                    regressions.add(String.format("throughput %d requests/s is below %.0f (baseline %d)",
+                            value, minimum, baselineValue));
+                }
+            } else {
+                final long maximum = Math.max(Math.round(baselineValue * (1 + tolerance)), baselineValue + minSlackMicros);
+                if (value > maximum) {
+                    regressions.add(String.format("%s %d us is above %d us (baseline %d us)",
+                            entry.getKey(), value, maximum, baselineValue));
+                }
+            }
+        }
+        return regressions;
+    }
+}
@@ -0,0 +1,53 @@
+package com.alex.aem.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Kinds of requests sent by the load generator, with the status each one must answer with.
+ */
+public enum Workload {
+    /**
+     * Single conversion of a random number.
+     */
+    SINGLE(200),
+    /**
+     * Range conversion of {@code rangeSize} numbers from a random start.
+     */
+    RANGE(200),
+    /**
+     * Invalid request: out of range number, inverted range or missing parameters.
+     */
+    ERROR(400);
+
+    private final int expectedStatus;
+
+    Workload(final int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    /**
+     * Builds the path and query of a request of this kind.
+     *
+     * @param random    The random source of the load generator.
+     * @param rangeSize The number of conversions of range requests.
+     * @return The request path with its query string.
+     */
+    public String path(final SplittableRandom random, final int rangeSize) {
+        return switch (this) {
+            case SINGLE -> "/romannumeral?query=" + random.nextInt(1, 4000);
+            case RANGE -> {
+                final int min = random.nextInt(1, 4001 - rangeSize);
+                yield "/romannumeral?min=" + min + "&max=" + (min + rangeSize - 1);
+            }
+            case ERROR -> switch (random.nextInt(3)) {
+                case 0 -> "/romannumeral?query=" + random.nextInt(4000, 10000);
+                case 1 -> "/romannumeral?min=" + random.nextInt(2, 4000) + "&max=1";
+                default -> "/romannumeral";
+            };
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.alex.aem.loadtest;
+
+import com.alex.aem.AemApplication;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the full stack on the embedded server with the mixed workload of {@link LoadTestSettings}
+ * and fails when the results regress beyond the stored baseline.
+ */
+@SpringBootTest(classes = AemApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"logging.level.com.alex.aem=WARN", "logging.level.com.alex.aem.loadtest=INFO",
+                "roman.access-log.sample-rate=0"})
+class ControllerLoadRegressionTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ControllerLoadRegressionTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void Mixed_workload_stays_within_baseline() throws Exception {
+        final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        final LoadTestReport report = new LoadGenerator(settings).run(URI.create("http://localhost:" + port));
+        log.info("Load test at {} requests/s with {} in flight over {}:\n{}",
+                settings.requestsPerSecond(), settings.concurrency(), settings.httpVersion(), report.format());
+
+        if (settings.updateBaseline()) {
+            assertEquals(0, report.unexpected(), "Requests failed or answered with an unexpected status");
+            report.writeBaseline(settings.baseline());
+            log.info("Stored baseline in {}", settings.baseline().toAbsolutePath());
+            return;
+        }
+        assertTrue(Files.exists(settings.baseline()), "No baseline in " + settings.baseline().toAbsolutePath()
+                + ", record one with -Dloadtest.update-baseline=true");
+        final List<String> regressions = RegressionGate.check(report, RegressionGate.load(settings.baseline()),
+                settings.tolerance(), settings.minSlackMicros());
+        assertTrue(regressions.isEmpty(), "Performance regressions:\n" + String.join("\n", regressions));
+    }
+}
@@ -0,0 +1,55 @@
+package com.alex.aem.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegressionGateTest {
+
+    private static LoadTestReport report(final double throughput, final long unexpected, final long p99) {
+        return new LoadTestReport(throughput, unexpected, List.of(
+                new LoadTestReport.WorkloadResult(Workload.SINGLE, 1000, 800, 500, 900, p99, p99, p99)));
+    }
+
+    private static Properties baseline() {
+        final Properties baseline = new Properties();
+        baseline.setProperty("throughput", "1000");
+        baseline.setProperty("single.p50", "500");
+        baseline.setProperty("single.p99", "10000");
+        return baseline;
+    }
+
+    @Test
+    void Results_within_tolerance_pass() {
+        assertEquals(List.of(), RegressionGate.check(report(800, 0, 12_000), baseline(), 0.25, 1000));
+    }
+
+    @Test
+    void Latency_regression_fails() {
+        final List<String> regressions = RegressionGate.check(report(1000, 0, 13_000), baseline(), 0.25, 1000);
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("single.p99"));
+    }
+
+    @Test
+    void Small_latencies_get_absolute_slack() {
+        final Properties baseline = baseline();
+        baseline.setProperty("single.p50", "100");
+        assertEquals(List.of(), RegressionGate.check(report(1000, 0, 10_000), baseline, 0.25, 1000));
+    }
+
+    @Test
+    void Throughput_drop_and_unexpected_responses_fail() {
+        assertEquals(2, RegressionGate.check(report(700, 3, 10_000), baseline(), 0.25, 1000).size());
+    }
+
+    @Test
+    void Workload_mix_is_parsed() {
+        assertEquals(3, LoadTestSettings.parseMix("single:70, range:20, error:10").size());
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("single"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("single:0"));
+    }
+}
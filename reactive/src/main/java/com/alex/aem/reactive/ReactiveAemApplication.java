@@ -0,0 +1,43 @@
+package com.alex.aem.reactive;
+
+import com.alex.aem.metrics.ConversionMetrics;
+import com.alex.aem.metrics.ConversionMetricsBinder;
+import com.alex.aem.service.AlgorithmicRomanNumeralEngine;
+import com.alex.aem.service.LookupTableRomanNumeralEngine;
+import com.alex.aem.service.MappedTableRomanNumeralEngine;
+import com.alex.aem.service.RangeExecutionPlanner;
+import com.alex.aem.service.RomanNumeralConverterService;
+import com.alex.aem.service.RomanNumeralScanner;
+import com.alex.aem.service.VinculumRomanNumeralFormatter;
+import com.alex.aem.validator.RomanValidator;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Reactive variant of the application. It reuses the conversion service and its collaborators from the main
+ * application, but not its servlet controller and filters, which are replaced by {@link ReactiveRomanNumeralController}.
+ * The shared {@code application.properties} is complemented by {@code application-reactive.properties}.
+ */
+@SpringBootApplication
+@Import({
+        RomanNumeralConverterService.class,
+        RomanValidator.class,
+        LookupTableRomanNumeralEngine.class,
+        AlgorithmicRomanNumeralEngine.class,
+        MappedTableRomanNumeralEngine.class,
+        RangeExecutionPlanner.class,
+        VinculumRomanNumeralFormatter.class,
+        RomanNumeralScanner.class,
+        ConversionMetrics.class,
+        ConversionMetricsBinder.class
+})
+public class ReactiveAemApplication {
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveAemApplication.class)
+				.profiles("reactive")
+				.run(args);
+	}
+
+}
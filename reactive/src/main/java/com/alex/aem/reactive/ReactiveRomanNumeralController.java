@@ -0,0 +1,142 @@
+package com.alex.aem.reactive;
+
+import com.alex.aem.data.ErrorResponse;
+import com.alex.aem.data.RomanNumeralBatchData;
+import com.alex.aem.data.RomanNumeralConversionsData;
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.exception.RomanNumeralConversionException;
+import com.alex.aem.metrics.ConversionMetrics;
+import com.alex.aem.service.NumberConverterService;
+import com.alex.aem.service.RomanNumeralConverterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Reactive counterpart of the servlet RomanNumeralController, serving the same API on Netty.
+ * Single conversions are computed on the event loop (they are array lookups); ranges are generated on demand
+ * from the service stream on the parallel scheduler, so NDJSON clients get them with backpressure,
+ * and batches, which may wait on the shared fork-join pool, run on the bounded elastic scheduler.
+ */
+@RestController
+@RequestMapping("/romannumeral")
+public class ReactiveRomanNumeralController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveRomanNumeralController.class);
+
+    private final NumberConverterService converterService;
+    private final ConversionMetrics metrics;
+
+    public ReactiveRomanNumeralController(final RomanNumeralConverterService romanNumeralConverterService,
+                                          final ConversionMetrics metrics) {
+        this.converterService = romanNumeralConverterService;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Handles single number conversion.
+     *
+     * @param query The single number to convert.
+     * @return The converted Roman numeral.
+     */
+    @GetMapping(params = "query")
+    public Mono<RomanNumeralData> handleSingleConversion(@RequestParam final int query) {
+        return Mono.fromSupplier(() -> converterService.convertOneNumber(query));
+    }
+
+    /**
+     * Handles range conversion as the same {@code {"conversions":[...]}} document as the servlet stack.
+     *
+     * @param min The lower bound of the range.
+     * @param max The upper bound of the range.
+     * @return The converted Roman numerals.
+     */
+    @GetMapping(params = {"min", "max"})
+    public Mono<RomanNumeralConversionsData> handleRangeConversion(@RequestParam final int min,
+                                                                   @RequestParam final int max) {
+        return rangeFlux(min, max)
+                .collectList()
+                .map(RomanNumeralConversionsData::new);
+    }
+
+    /**
+     * Handles range conversion requests with {@code stream=true}, streamed with backpressure:
+     * as newline delimited JSON when the client accepts {@code application/x-ndjson}, otherwise as a JSON array.
+     *
+     * @param min The lower bound of the range.
+     * @param max The upper bound of the range.
+     * @return The converted Roman numerals.
+     */
+    @GetMapping(params = {"min", "max", "stream=true"},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RomanNumeralData> handleStreamingRangeConversion(@RequestParam final int min,
+                                                                 @RequestParam final int max) {
+        return rangeFlux(min, max);
+    }
+
+    /**
+     * Rejects conversion requests that have neither {@code query} nor both {@code min} and {@code max}.
+     *
+     * @return An error.
+     */
+    @GetMapping
+    public Mono<RomanNumeralData> handleInvalidParameters() {
+        return Mono.error(new RomanNumeralConversionException(
+                "Either 'query' or both 'min' and 'max' must be provided", "INVALID_PARAMETERS"));
+    }
+
+    /**
+     * Handles Roman numeral to integer conversion.
+     *
+     * @param query The Roman numeral to convert.
+     * @return The integer value of the numeral.
+     */
+    @GetMapping("/parse")
+    public Mono<RomanNumeralData> handleParse(@RequestParam final String query) {
+        return Mono.fromSupplier(() -> converterService.parse(query));
+    }
+
+    /**
+     * Handles batch conversion of a JSON array of numbers and/or Roman numerals.
+     *
+     * @param items The numbers and numerals to convert.
+     * @return One result per item, in the same order.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<RomanNumeralBatchData> handleBatchConversion(@RequestBody final Mono<List<String>> items) {
+        return items.publishOn(Schedulers.boundedElastic())
+                .map(converterService::convertBatch);
+    }
+
+    private Flux<RomanNumeralData> rangeFlux(final int min, final int max) {
+        // The range is validated when the stream is created, so errors surface before the first element
+        return Flux.defer(() -> Flux.fromStream(converterService.streamMultipleNumbers(min, max)))
+                .subscribeOn(Schedulers.parallel());
+    }
+
+    @ExceptionHandler(RomanNumeralConversionException.class)
+    public ResponseEntity<ErrorResponse> handleConversionException(final RomanNumeralConversionException e) {
+        log.debug("Conversion error: {}", e.getMessage());
+        metrics.countError(e.getErrorCode());
+        return ResponseEntity
+                .badRequest()
+                .body(new ErrorResponse(e.getErrorCode(), e.getMessage()));
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInputException(final ServerWebInputException e) {
+        log.debug("Invalid request: {}", e.getReason());
+        metrics.countError("INVALID_PARAMETERS");
+        return ResponseEntity
+                .badRequest()
+                .body(new ErrorResponse("INVALID_PARAMETERS", e.getReason()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.alex.aem.reactive;
+
+import jakarta.annotation.Resource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest(classes = ReactiveAemApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveAemApplicationTest {
+
+    @Resource
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    void Application_runs_on_netty() {
+        assertInstanceOf(NettyWebServer.class, context.getWebServer());
+    }
+}
@@ -0,0 +1,84 @@
+package com.alex.aem.reactive;
+
+import com.alex.aem.data.RomanNumeralData;
+import jakarta.annotation.Resource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(classes = ReactiveAemApplication.class)
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveRomanNumeralControllerTest {
+
+    @Resource
+    private WebTestClient webTestClient;
+
+    @Test
+    void Single_number_conversion_request_returns_correct_response() {
+        webTestClient.get().uri("/romannumeral?query=9")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.input").isEqualTo("9")
+                .jsonPath("$.output").isEqualTo("IX");
+    }
+
+    @Test
+    void Range_conversion_request_returns_correct_response() {
+        webTestClient.get().uri("/romannumeral?min=1&max=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.conversions.length()").isEqualTo(3)
+                .jsonPath("$.conversions[2].output").isEqualTo("III");
+    }
+
+    @Test
+    void Streamed_range_conversion_request_returns_ndjson() {
+        final Flux<RomanNumeralData> body = webTestClient.get().uri("/romannumeral?min=1&max=3999&stream=true")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(RomanNumeralData.class)
+                .getResponseBody();
+
+        StepVerifier.create(body)
+                .expectNext(new RomanNumeralData("1", "I"))
+                .expectNextCount(3997)
+                .expectNext(new RomanNumeralData("3999", "MMMCMXCIX"))
+                .verifyComplete();
+    }
+
+    @Test
+    void Out_of_range_number_request_returns_bad_request() {
+        webTestClient.get().uri("/romannumeral?query=4000")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("OUT_OF_RANGE");
+    }
+
+    @Test
+    void Invalid_parameter_request_returns_bad_request() {
+        webTestClient.get().uri("/romannumeral?min=1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo("INVALID_PARAMETERS");
+    }
+
+    @Test
+    void Numeral_parse_request_returns_correct_response() {
+        webTestClient.get().uri("/romannumeral/parse?query=MCMXCIV")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.output").isEqualTo("1994");
+    }
+}
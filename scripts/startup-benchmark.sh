@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Measures time to first healthy response and resident memory of the JVM, CDS and native builds.
+# Build them first with: mvn -Pcds package && mvn -Pnative native:compile
+# Usage: scripts/startup-benchmark.sh [runs] [port]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${2:-18080}
+TARGET=$(cd "$(dirname "$0")/../target" && pwd)
+JAR=$(ls "$TARGET"/aem-*-exec.jar | head -n 1)
+
+# Prints "<startup ms> <RSS KiB>" for one start of the given command
+measure() {
+    local start pid rss
+    start=$(date +%s%N)
+    "$@" --server.port="$PORT" --roman.access-log.enabled=false > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited before becoming healthy: $*" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    echo -n "$(( ($(date +%s%N) - start) / 1000000 )) "
+    # Warm the conversion paths once so RSS reflects a serving process, not an idle one
+    curl -sf "http://localhost:$PORT/romannumeral?min=1&max=3999" > /dev/null
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    echo "$rss"
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+report() {
+    local name=$1 samples
+    shift
+    samples=$(for _ in $(seq "$RUNS"); do measure "$@"; done)
+    printf '| %-6s | %12s | %9s |\n' "$name" \
+        "$(cut -d' ' -f1 <<< "$samples" | median)" \
+        "$(( $(cut -d' ' -f2 <<< "$samples" | median) / 1024 ))"
+}
+
+echo "Median of $RUNS runs"
+echo
+echo "| Build  | Startup (ms) | RSS (MiB) |"
+echo "|--------|--------------|-----------|"
+report jvm java -jar "$JAR"
+if [[ -f "$TARGET/cds/application.jsa" ]]; then
+    (cd "$TARGET/cds" && report cds java -XX:SharedArchiveFile=application.jsa -jar "$(basename "$JAR")")
+fi
+if [[ -x "$TARGET/aem" ]]; then
+    report native "$TARGET/aem"
+fi
@@ -2,8 +2,10 @@ package com.alex.aem;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(AemRuntimeHints.class)
 public class AemApplication {
 
 	public static void main(String[] args) {
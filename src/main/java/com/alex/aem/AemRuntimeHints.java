@@ -0,0 +1,43 @@
+package com.alex.aem;
+
+import com.alex.aem.data.ErrorResponse;
+import com.alex.aem.data.RomanNumeralBatchData;
+import com.alex.aem.data.RomanNumeralBatchItem;
+import com.alex.aem.data.RomanNumeralConversionsData;
+import com.alex.aem.data.RomanNumeralConversionsPage;
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.data.RomanNumeralRange;
+import com.alex.aem.data.RomanNumeralRangeDelta;
+import com.alex.aem.data.RomanNumeralRangeSegment;
+import com.alex.aem.data.RomanNumeralRangeSerializer;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints the AOT engine cannot infer: the controller returns {@code ResponseEntity<?>},
+ * so the JSON bodies are registered for binding explicitly, along with the OpenAPI definition.
+ */
+public class AemRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                RomanNumeralData.class,
+                RomanNumeralConversionsData.class,
+                RomanNumeralConversionsPage.class,
+                RomanNumeralRangeDelta.class,
+                RomanNumeralRangeSegment.class,
+                RomanNumeralBatchData.class,
+                RomanNumeralBatchItem.class,
+                ErrorResponse.class);
+        // Serialized through its annotation rather than its accessors
+        hints.reflection().registerType(RomanNumeralRange.class);
+        hints.reflection().registerType(RomanNumeralRangeSerializer.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("openapi/*.yaml");
+    }
+}
@@ -0,0 +1,150 @@
+package com.alex.aem.admission;
+
+import com.alex.aem.exception.AdmissionRejectedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control of the expensive conversion requests.
+ * Ranges, streamed ranges and batches each have a bounded number of requests in flight, and ranges also share
+ * a cost budget in numbers being converted, so a burst of large ranges cannot saturate the CPU.
+ * Single conversions and parsing are never limited, which keeps them responsive under load.
+ */
+@Component
+@ConditionalOnProperty(name = "roman.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionController {
+
+    /**
+     * Kind of request subject to admission control.
+     */
+    public enum Endpoint {
+        RANGE, STREAM, BATCH
+    }
+
+    /**
+     * Reason of a rejection.
+     */
+    public enum Rejection {
+        /**
+         * The endpoint already has its maximum of requests in flight; answered with 429.
+         */
+        CONCURRENCY("TOO_MANY_REQUESTS", "Too many %s requests in progress"),
+        /**
+         * The cost budget shared by ranges is exhausted; answered with 503.
+         */
+        COST("SERVICE_OVERLOADED", "The server is converting too many numbers to accept this %s request");
+
+        private final String errorCode;
+        private final String message;
+
+        Rejection(final String errorCode, final String message) {
+            this.errorCode = errorCode;
+            this.message = message;
+        }
+    }
+
+    /**
+     * Admission of one request, to close once the request completes.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private final Semaphore slots;
+        private final Semaphore cost;
+        private final int costUnits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(final Semaphore slots, final Semaphore cost, final int costUnits) {
+            this.slots = slots;
+            this.cost = cost;
+            this.costUnits = costUnits;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                if (costUnits > 0) {
+                    cost.release(costUnits);
+                }
+                slots.release();
+            }
+        }
+    }
+
+    private final Map<Endpoint, Semaphore> slots = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Integer> maxConcurrent = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Map<Rejection, LongAdder>> rejections = new EnumMap<>(Endpoint.class);
+    private final Semaphore cost;
+    private final int maxCost;
+    private final long maxWaitMillis;
+
+    public AdmissionController(
+            @Value("${roman.admission.range.max-concurrent:32}") final int maxRanges,
+            @Value("${roman.admission.stream.max-concurrent:8}") final int maxStreams,
+            @Value("${roman.admission.batch.max-concurrent:8}") final int maxBatches,
+            @Value("${roman.admission.range.max-cost:100000}") final int maxCost,
+            @Value("${roman.admission.max-wait-millis:0}") final long maxWaitMillis) {
+        maxConcurrent.put(Endpoint.RANGE, maxRanges);
+        maxConcurrent.put(Endpoint.STREAM, maxStreams);
+        maxConcurrent.put(Endpoint.BATCH, maxBatches);
+        for (final Endpoint endpoint : Endpoint.values()) {
+            slots.put(endpoint, new Semaphore(maxConcurrent.get(endpoint)));
+            final Map<Rejection, LongAdder> counters = new EnumMap<>(Rejection.class);
+            for (final Rejection rejection : Rejection.values()) {
+                counters.put(rejection, new LongAdder());
+            }
+            rejections.put(endpoint, counters);
+        }
+        this.cost = new Semaphore(maxCost);
+        this.maxCost = maxCost;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * Admits a request, waiting at most {@code roman.admission.max-wait-millis} for capacity.
+     *
+     * @param endpoint  The kind of request.
+     * @param costUnits The numbers the request converts; only ranges are charged, and at most the whole budget,
+     *                  so a range larger than the budget runs alone.
+     * @return The permit to close once the request completes.
+     * @throws AdmissionRejectedException if the request is not admitted.
+     * @throws InterruptedException       if interrupted while waiting for capacity.
+     */
+    public Permit admit(final Endpoint endpoint, final long costUnits) throws InterruptedException {
+        final Semaphore endpointSlots = slots.get(endpoint);
+        if (!endpointSlots.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            throw reject(endpoint, Rejection.CONCURRENCY);
+        }
+        final int charged = endpoint == Endpoint.RANGE ? (int) Math.max(1, Math.min(costUnits, maxCost)) : 0;
+        if (charged > 0 && !cost.tryAcquire(charged, maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            endpointSlots.release();
+            throw reject(endpoint, Rejection.COST);
+        }
+        return new Permit(endpointSlots, cost, charged);
+    }
+
+    private AdmissionRejectedException reject(final Endpoint endpoint, final Rejection rejection) {
+        rejections.get(endpoint).get(rejection).increment();
+        return new AdmissionRejectedException(String.format(rejection.message, endpoint.name().toLowerCase()),
+                rejection.errorCode);
+    }
+
+    public long getRejections(final Endpoint endpoint, final Rejection rejection) {
+        return rejections.get(endpoint).get(rejection).sum();
+    }
+
+    public int getInFlight(final Endpoint endpoint) {
+        return maxConcurrent.get(endpoint) - slots.get(endpoint).availablePermits();
+    }
+
+    public int getCostInFlight() {
+        return maxCost - cost.availablePermits();
+    }
+}
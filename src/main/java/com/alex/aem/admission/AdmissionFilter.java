@@ -0,0 +1,192 @@
+package com.alex.aem.admission;
+
+import com.alex.aem.controller.RangeCursor;
+import com.alex.aem.exception.AdmissionRejectedException;
+import com.alex.aem.exception.RomanNumeralConversionException;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies the {@link AdmissionController} to range, streamed range, batch and scan requests that reach the controller,
+ * after the response cache, so cached responses are never rejected.
+ * Rejected requests are answered at once with 429 or 503 and a {@code Retry-After} header.
+ * The permit of a streamed response is held until the stream completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 300)
+@ConditionalOnProperty(name = "roman.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionFilter.class);
+
+    private static final String BASE_PATH = "/romannumeral";
+
+    private final AdmissionController admissionController;
+    private final String retryAfterSeconds;
+
+    public AdmissionFilter(final AdmissionController admissionController,
+                           @Value("${roman.admission.retry-after-seconds:1}") final long retryAfterSeconds) {
+        this.admissionController = admissionController;
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return endpoint(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final AdmissionController.Endpoint endpoint = endpoint(request);
+        final AdmissionController.Permit permit;
+        try {
+            permit = admissionController.admit(endpoint, cost(request));
+        } catch (final AdmissionRejectedException e) {
+            log.debug("Rejected {} request: {}", endpoint, e.getMessage());
+            reject(response, e);
+            return;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(response, new AdmissionRejectedException("Interrupted while waiting for admission",
+                    "SERVICE_OVERLOADED"));
+            return;
+        }
+
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(final AsyncEvent event) {
+                        permit.close();
+                    }
+
+                    @Override
+                    public void onTimeout(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(final AsyncEvent event) {
+                    }
+                });
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permit.close();
+            }
+        }
+    }
+
+    private void reject(final HttpServletResponse response, final AdmissionRejectedException e) throws IOException {
+        final HttpStatus status = "TOO_MANY_REQUESTS".equals(e.getErrorCode())
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : HttpStatus.SERVICE_UNAVAILABLE;
+        final byte[] body = ("{\"errorCode\":\"" + e.getErrorCode() + "\",\"message\":\"" + e.getMessage() + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * @return The kind of the request, or null when it is not subject to admission control.
+     */
+    private static AdmissionController.Endpoint endpoint(final HttpServletRequest request) {
+        final String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals(BASE_PATH + "/batch")) {
+            return "POST".equals(request.getMethod()) ? AdmissionController.Endpoint.BATCH : null;
+        }
+        if (path.equals(BASE_PATH + "/scan")) {
+            // Scanned texts are streamed both ways, like streamed ranges
+            return "POST".equals(request.getMethod()) ? AdmissionController.Endpoint.STREAM : null;
+        }
+        if (!path.equals(BASE_PATH)) {
+            return null;
+        }
+        if (request.getParameter("cursor") != null) {
+            // Pages after the first are requested with the cursor alone; invalid cursors are rejected by the controller
+            return cursor(request) == null ? null : AdmissionController.Endpoint.RANGE;
+        }
+        if (request.getParameter("min") == null || request.getParameter("max") == null) {
+            return null;
+        }
+        return "true".equals(request.getParameter("stream"))
+                ? AdmissionController.Endpoint.STREAM
+                : AdmissionController.Endpoint.RANGE;
+    }
+
+    /**
+     * @return The size of the requested range, of its page when an offset, a limit or a cursor is given or of the part
+     * missing from the held range when one is given, or 1 when the bounds are not numbers (rejected by validation).
+     */
+    private static long cost(final HttpServletRequest request) {
+        final RangeCursor page = cursor(request);
+        if (page != null) {
+            return Math.max(1, Math.min(page.limit(), page.total() - page.offset()));
+        }
+        try {
+            final long min = Long.parseLong(request.getParameter("min"));
+            final long max = Long.parseLong(request.getParameter("max"));
+            long size = max - min + 1;
+            final String offset = request.getParameter("offset");
+            if (offset != null) {
+                size = Math.max(0, size - Long.parseLong(offset));
+            }
+            final String limit = request.getParameter("limit");
+            if (limit != null) {
+                size = Math.min(size, Long.parseLong(limit));
+            }
+            final String heldMin = request.getParameter("heldMin");
+            final String heldMax = request.getParameter("heldMax");
+            if (heldMin != null && heldMax != null) {
+                final long held = Math.min(max, Long.parseLong(heldMax)) - Math.max(min, Long.parseLong(heldMin)) + 1;
+                size -= Math.max(0, held);
+            }
+            return Math.max(1, size);
+        } catch (final NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * @return The decoded cursor of a paged request, or null when there is none or it is not valid.
+     */
+    private static RangeCursor cursor(final HttpServletRequest request) {
+        final String cursor = request.getParameter("cursor");
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return RangeCursor.decode(cursor);
+        } catch (final RomanNumeralConversionException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.alex.aem.cache;
+
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.service.LookupTableRomanNumeralEngine;
+import com.alex.aem.service.RomanNumeralEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Cache of fully rendered JSON response bodies.
+ * Single conversions are pre-rendered for the whole domain at startup; range responses are kept in an LRU cache
+ * bounded both in entries and in bytes. Every body comes with a strong ETag derived from its content.
+ */
+@Component
+@ConditionalOnProperty(name = "roman.converter.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ConversionResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ConversionResponseCache.class);
+
+    /**
+     * A rendered response body and its ETag.
+     *
+     * @param body The JSON body; shared, must not be modified.
+     * @param etag The quoted strong ETag of the body.
+     */
+    public record CachedResponse(byte[] body, String etag) {
+    }
+
+    private final CachedResponse[] singles = new CachedResponse[LookupTableRomanNumeralEngine.MAX_NUMBER + 1];
+    private final Map<Long, CachedResponse> ranges;
+    private final int maxRangeEntries;
+    private final long maxRangeBytes;
+    private long rangeBytes;
+
+    private final LongAdder singleHits = new LongAdder();
+    private final LongAdder rangeHits = new LongAdder();
+    private final LongAdder rangeMisses = new LongAdder();
+    private final LongAdder rangeEvictions = new LongAdder();
+
+    public ConversionResponseCache(
+            final RomanNumeralEngine engine,
+            @Value("${roman.converter.cache.range.max-entries:256}") final int maxRangeEntries,
+            @Value("${roman.converter.cache.range.max-bytes:16777216}") final long maxRangeBytes) {
+        this.maxRangeEntries = maxRangeEntries;
+        this.maxRangeBytes = maxRangeBytes;
+        this.ranges = new LinkedHashMap<>(16, 0.75f, true);
+
+        final long start = System.nanoTime();
+        for (int number = 1; number <= LookupTableRomanNumeralEngine.MAX_NUMBER; number++) {
+            final RomanNumeralData data = engine.toData(number);
+            final byte[] body = ("{\"input\":\"" + data.input() + "\",\"output\":\"" + data.output() + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            singles[number] = new CachedResponse(body, etag(body));
+        }
+        log.info("Pre-rendered {} single conversion responses in {} µs, range cache limited to {} entries and {} bytes",
+                LookupTableRomanNumeralEngine.MAX_NUMBER, (System.nanoTime() - start) / 1_000, maxRangeEntries, maxRangeBytes);
+    }
+
+    /**
+     * Returns the pre-rendered response of a single conversion.
+     *
+     * @param number The validated number.
+     * @return The cached response.
+     */
+    public CachedResponse getSingle(final int number) {
+        singleHits.increment();
+        return singles[number];
+    }
+
+    /**
+     * Looks up the response of a range conversion.
+     *
+     * @param min The lower bound of the range.
+     * @param max The upper bound of the range.
+     * @return The cached response, or null if the range is not cached.
+     */
+    public CachedResponse getRange(final int min, final int max) {
+        final CachedResponse response;
+        synchronized (ranges) {
+            response = ranges.get(key(min, max));
+        }
+        if (response == null) {
+            rangeMisses.increment();
+        } else {
+            rangeHits.increment();
+        }
+        return response;
+    }
+
+    /**
+     * Stores the rendered response of a range conversion, evicting the least recently used ranges
+     * until the cache fits its limits again. Bodies larger than the whole cache are not stored.
+     *
+     * @param min  The lower bound of the range.
+     * @param max  The upper bound of the range.
+     * @param body The rendered JSON body.
+     * @return The cached response, with its ETag.
+     */
+    public CachedResponse putRange(final int min, final int max, final byte[] body) {
+        final CachedResponse response = new CachedResponse(body, etag(body));
+        if (body.length > maxRangeBytes || maxRangeEntries <= 0) {
+            return response;
+        }
+        synchronized (ranges) {
+            final CachedResponse previous = ranges.put(key(min, max), response);
+            rangeBytes += body.length - (previous == null ? 0 : previous.body().length);
+            final var iterator = ranges.values().iterator();
+            while (ranges.size() > maxRangeEntries || rangeBytes > maxRangeBytes) {
+                rangeBytes -= iterator.next().body().length;
+                iterator.remove();
+                rangeEvictions.increment();
+            }
+        }
+        return response;
+    }
+
+    public long getSingleHits() {
+        return singleHits.sum();
+    }
+
+    public long getRangeHits() {
+        return rangeHits.sum();
+    }
+
+    public long getRangeMisses() {
+        return rangeMisses.sum();
+    }
+
+    public long getRangeEvictions() {
+        return rangeEvictions.sum();
+    }
+
+    public int getRangeEntries() {
+        synchronized (ranges) {
+            return ranges.size();
+        }
+    }
+
+    public long getRangeBytes() {
+        synchronized (ranges) {
+            return rangeBytes;
+        }
+    }
+
+    private static long key(final int min, final int max) {
+        return ((long) min << 32) | (max & 0xFFFFFFFFL);
+    }
+
+    private static String etag(final byte[] body) {
+        final CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + Integer.toHexString(body.length) + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+}
@@ -0,0 +1,178 @@
+package com.alex.aem.cache;
+
+import com.alex.aem.controller.ConversionFormat;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+
+/**
+ * Serves {@code GET /romannumeral} single and range conversions from the {@link ConversionResponseCache},
+ * bypassing the controller and JSON serialization, and answers conditional requests with 304 Not Modified.
+ * Range responses not cached yet go through the controller once and are captured on the way out,
+ * after the asynchronous dispatch when the controller converted the range asynchronously.
+ * Requests the cache cannot answer (invalid input, streaming, paging, extended notations, non JSON formats)
+ * are passed on untouched.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 200)
+@ConditionalOnProperty(name = "roman.converter.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ConversionResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private final ConversionResponseCache cache;
+    private final String cacheControl;
+
+    public ConversionResponseCacheFilter(
+            final ConversionResponseCache cache,
+            @Value("${roman.converter.cache.max-age-seconds:86400}") final long maxAgeSeconds) {
+        this.cache = cache;
+        this.cacheControl = "public, max-age=" + maxAgeSeconds;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !(request.getContextPath() + "/romannumeral").equals(request.getRequestURI())
+                || request.getParameter("stream") != null
+                || request.getParameter("notation") != null
+                || request.getParameter("limit") != null
+                || request.getParameter("offset") != null
+                || request.getParameter("cursor") != null
+                || request.getParameter("heldMin") != null
+                || request.getParameter("heldMax") != null
+                || ConversionFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT)) != ConversionFormat.JSON;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            // The response is still wrapped by the capture of the initial dispatch
+            filterChain.doFilter(request, response);
+            final ContentCachingResponseWrapper capture =
+                    WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            if (capture != null && !isAsyncStarted(request)) {
+                store(request, capture);
+            }
+            return;
+        }
+
+        final String query = request.getParameter("query");
+        if (query != null) {
+            final int number = parseNumber(query);
+            if (number < 1 || number > 3999) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            write(request, response, cache.getSingle(number), "HIT");
+            return;
+        }
+
+        final int min = parseNumber(request.getParameter("min"));
+        final int max = parseNumber(request.getParameter("max"));
+        if (min < 1 || max > 3999 || min > max) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final ConversionResponseCache.CachedResponse cached = cache.getRange(min, max);
+        if (cached != null) {
+            write(request, response, cached, "HIT");
+            return;
+        }
+
+        final ContentCachingResponseWrapper capture = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, capture);
+        if (!isAsyncStarted(request)) {
+            store(request, capture);
+        }
+    }
+
+    /**
+     * Stores a captured range response when it succeeded and writes it to the client.
+     */
+    private void store(final HttpServletRequest request, final ContentCachingResponseWrapper capture)
+            throws IOException {
+        if (capture.getStatus() == HttpStatus.OK.value()) {
+            final int min = parseNumber(request.getParameter("min"));
+            final int max = parseNumber(request.getParameter("max"));
+            final ConversionResponseCache.CachedResponse stored =
+                    cache.putRange(min, max, capture.getContentAsByteArray());
+            capture.setHeader(HttpHeaders.ETAG, stored.etag());
+            capture.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            capture.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            capture.setHeader(CACHE_STATUS_HEADER, "MISS");
+        }
+        capture.copyBodyToResponse();
+    }
+
+    private void write(final HttpServletRequest request, final HttpServletResponse response,
+                       final ConversionResponseCache.CachedResponse cached, final String cacheStatus) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        // Ranges are also served in other formats, negotiated from the Accept header
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(CACHE_STATUS_HEADER, cacheStatus);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private static boolean matches(final String ifNoneMatch, final String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.strip();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses a request parameter as a plain decimal number.
+     *
+     * @return The number, or -1 when the parameter is missing or not a number the cache can serve.
+     */
+    private static int parseNumber(final String value) {
+        if (value == null || value.isEmpty() || value.length() > 4) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+}
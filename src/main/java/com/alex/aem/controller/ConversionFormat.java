@@ -0,0 +1,74 @@
+package com.alex.aem.controller;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Body formats of range conversions, negotiated from the Accept header of the request.
+ */
+public enum ConversionFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv")),
+    TSV(new MediaType("text", "tab-separated-values")),
+    BINARY(new MediaType("application", "x-roman-conversions"));
+
+    private final MediaType mediaType;
+
+    ConversionFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the format of the most preferred accepted media type this API can write.
+     * Wildcards match the first format in declaration order, so a full wildcard yields JSON,
+     * which is also used when the header is missing, has no known type, or cannot be parsed.
+     *
+     * @param accept The Accept header of the request (optional).
+     * @return The format to write the conversions in.
+     */
+    public static ConversionFormat negotiate(final String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        final List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = MediaType.parseMediaTypes(accept);
+        } catch (final IllegalArgumentException e) {
+            return JSON;
+        }
+        return acceptedTypes.stream()
+                .filter(acceptedType -> acceptedType.getQualityValue() > 0)
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .flatMap(acceptedType -> Stream.of(values())
+                        .filter(format -> acceptedType.includes(format.mediaType)))
+                .findFirst()
+                .orElse(JSON);
+    }
+
+    /**
+     * Writes the conversions in this format.
+     *
+     * @param conversions The ordered conversions to write.
+     * @param out         The response body stream.
+     * @throws IOException if writing to the response fails.
+     */
+    void write(final ConversionStreamWriter.Conversions conversions, final OutputStream out) throws IOException {
+        switch (this) {
+            case NDJSON -> ConversionStreamWriter.writeNdjson(conversions, out);
+            case CSV -> ConversionStreamWriter.writeDelimited(conversions, ',', out);
+            case TSV -> ConversionStreamWriter.writeDelimited(conversions, '\t', out);
+            case BINARY -> ConversionStreamWriter.writeBinary(conversions, out);
+            default -> ConversionStreamWriter.writeJson(conversions, out);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.alex.aem.controller;
+
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.data.RomanNumeralRange;
+import com.alex.aem.service.LookupTableRomanNumeralEngine;
+import com.alex.aem.service.RomanNumeralEncoder;
+import com.alex.aem.service.RomanNumeralScanner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes conversions straight to an output stream through a small fixed buffer,
+ * so memory stays bounded regardless of the range size.
+ * Inputs are decimal digits and outputs are Roman letters, possibly with combining overlines,
+ * hence no JSON escaping is needed; characters are encoded in UTF-8.
+ * Conversion streams are closed once written, which releases any conversion running ahead of the writer.
+ * Standard numerals are encoded from their number by the {@link RomanNumeralEncoder} rather than copied char by char.
+ * Numerals found in a text are written from the bytes of the scanner, ASCII letters needing no escaping either.
+ */
+final class ConversionStreamWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    private ConversionStreamWriter(final OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Receives one conversion as a number and its numeral.
+     */
+    @FunctionalInterface
+    interface ConversionConsumer {
+        void accept(int number, String numeral) throws IOException;
+    }
+
+    /**
+     * Ordered conversions, read as numbers and numerals so columnar ranges need no record per conversion.
+     */
+    @FunctionalInterface
+    interface Conversions {
+        void forEach(ConversionConsumer consumer) throws IOException;
+
+        /**
+         * @param conversions The ordered conversions, closed once read.
+         * @return The conversions of the stream.
+         */
+        static Conversions of(final Stream<RomanNumeralData> conversions) {
+            return consumer -> {
+                try (conversions) {
+                    final Iterator<RomanNumeralData> iterator = conversions.iterator();
+                    while (iterator.hasNext()) {
+                        final RomanNumeralData data = iterator.next();
+                        consumer.accept(Integer.parseInt(data.input()), data.output());
+                    }
+                }
+            };
+        }
+
+        /**
+         * @param conversions The ordered conversions, read from their columns when they are a {@link RomanNumeralRange}.
+         * @return The conversions of the collection.
+         */
+        static Conversions of(final Collection<RomanNumeralData> conversions) {
+            if (conversions instanceof RomanNumeralRange range) {
+                return consumer -> {
+                    for (int i = 0; i < range.size(); i++) {
+                        consumer.accept(range.number(i), range.numeral(i));
+                    }
+                };
+            }
+            return of(conversions.stream());
+        }
+    }
+
+    /**
+     * Numerals found in a text, handed to a consumer in the order of the text.
+     */
+    @FunctionalInterface
+    interface Matches {
+        void forEach(RomanNumeralScanner.MatchConsumer consumer) throws IOException;
+    }
+
+    /**
+     * Writes the conversions as the same {@code {"conversions":[...]}} document produced for non-streamed ranges.
+     *
+     * @param conversions The ordered conversions to write.
+     * @param out         The response body stream.
+     * @throws IOException if writing to the response fails.
+     */
+    static void writeJson(final Conversions conversions, final OutputStream out) throws IOException {
+        final ConversionStreamWriter writer = new ConversionStreamWriter(out);
+        writer.append("{\"conversions\":[");
+        final boolean[] first = {true};
+        conversions.forEach((number, numeral) -> {
+            if (!first[0]) {
+                writer.append(',');
+            }
+            first[0] = false;
+            writer.appendObject(number, numeral);
+        });
+        writer.append("]}");
+        writer.flush();
+    }
+
+    /**
+     * Writes the conversions as newline delimited JSON, one {@code {"input":..,"output":..}} object per line.
+     *
+     * @param conversions The ordered conversions to write.
+     * @param out         The response body stream.
+     * @throws IOException if writing to the response fails.
+     */
+    static void writeNdjson(final Conversions conversions, final OutputStream out) throws IOException {
+        final ConversionStreamWriter writer = new ConversionStreamWriter(out);
+        conversions.forEach((number, numeral) -> {
+            writer.appendObject(number, numeral);
+            writer.append('\n');
+        });
+        writer.flush();
+    }
+
+    /**
+     * Writes the conversions as delimited text, an {@code input<separator>output} header followed by one line
+     * per conversion, e.g. CSV with a comma or TSV with a tab.
+     *
+     * @param conversions The ordered conversions to write.
+     * @param separator   The field separator.
+     * @param out         The response body stream.
+     * @throws IOException if writing to the response fails.
+     */
+    static void writeDelimited(final Conversions conversions, final char separator,
+                               final OutputStream out) throws IOException {
+        final ConversionStreamWriter writer = new ConversionStreamWriter(out);
+        writer.append("input");
+        writer.append(separator);
+        writer.append("output\n");
+        conversions.forEach((number, numeral) -> {
+            writer.appendNumber(number);
+            writer.append(separator);
+            writer.appendNumeral(number, numeral);
+            writer.append('\n');
+        });
+        writer.flush();
+    }
+
+    /**
+     * Writes the conversions as length-prefixed binary records: the input as a 4-byte big-endian integer,
+     * then the length of the numeral in bytes as one unsigned byte, then the numeral in UTF-8.
+     *
+     * @param conversions The ordered conversions to write.
+     * @param out         The response body stream.
+     * @throws IOException if writing to the response fails.
+     */
+    static void writeBinary(final Conversions conversions, final OutputStream out) throws IOException {
+        final ConversionStreamWriter writer = new ConversionStreamWriter(out);
+        conversions.forEach(writer::appendRecord);
+        writer.flush();
+    }
+
+    /**
+     * Writes numerals found in a text as newline delimited JSON, one
+     * {@code {"position":..,"numeral":..,"value":..,"normalized":..,"form":..}} object per line.
+     *
+     * @param matches The numerals found in the text.
+     * @param out     The response body stream.
+     * @throws IOException if scanning the text or writing to the response fails.
+     */
+    static void writeMatches(final Matches matches, final OutputStream out) throws IOException {
+        final ConversionStreamWriter writer = new ConversionStreamWriter(out);
+        matches.forEach((position, numeral, length, value, form) -> {
+            writer.append("{\"position\":");
+            writer.appendNumber(position);
+            writer.append(",\"numeral\":\"");
+            writer.append(numeral, length);
+            writer.append("\",\"value\":");
+            writer.appendNumber(value);
+            writer.append(",\"normalized\":\"");
+            writer.appendNumeral(value, null);
+            writer.append("\",\"form\":\"");
+            writer.append(form.name());
+            writer.append("\"}\n");
+        });
+        writer.flush();
+    }
+
+    private void appendRecord(final int input, final String output) throws IOException {
+        // Record header: 4 bytes of input and 1 byte of length, then at most 3 bytes per char of the numeral,
+        // or the scratch space of the encoder, so the numeral never drains the buffer under the header
+        if (position + 5 + Math.max(3 * output.length(), RomanNumeralEncoder.WORD_SLACK) > BUFFER_SIZE) {
+            drain();
+        }
+        buffer[position++] = (byte) (input >>> 24);
+        buffer[position++] = (byte) (input >>> 16);
+        buffer[position++] = (byte) (input >>> 8);
+        buffer[position++] = (byte) input;
+        final int lengthPosition = position++;
+        appendNumeral(input, output);
+        buffer[lengthPosition] = (byte) (position - lengthPosition - 1);
+    }
+
+    private void appendObject(final int number, final String numeral) throws IOException {
+        append("{\"input\":\"");
+        appendNumber(number);
+        append("\",\"output\":\"");
+        appendNumeral(number, numeral);
+        append("\"}");
+    }
+
+    /**
+     * Appends the numeral of a number. Numbers up to 3999 have the same standard numeral in every notation,
+     * so theirs is encoded from the number; larger ones are copied from the given numeral.
+     */
+    private void appendNumeral(final int number, final String numeral) throws IOException {
+        if (number > LookupTableRomanNumeralEngine.MAX_NUMBER) {
+            append(numeral);
+            return;
+        }
+        if (position + RomanNumeralEncoder.WORD_SLACK > BUFFER_SIZE) {
+            drain();
+        }
+        position += RomanNumeralEncoder.encode(number, buffer, position);
+    }
+
+    /**
+     * Appends the decimal digits of a number, zero or positive, without building its String.
+     */
+    private void appendNumber(final long number) throws IOException {
+        if (position + 19 > BUFFER_SIZE) {
+            drain();
+        }
+        int digits = 1;
+        for (long bound = 10; digits < 19 && number >= bound; bound *= 10) {
+            digits++;
+        }
+        long remaining = number;
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        position += digits;
+    }
+
+    private void append(final String value) throws IOException {
+        final int length = value.length();
+        // Three bytes per char covers every char of the Basic Multilingual Plane in UTF-8
+        if (position + 3 * length > BUFFER_SIZE) {
+            drain();
+        }
+        for (int i = 0; i < length; i++) {
+            encode(value.charAt(i));
+        }
+    }
+
+    private void append(final byte[] ascii, final int length) throws IOException {
+        if (position + length > BUFFER_SIZE) {
+            drain();
+        }
+        System.arraycopy(ascii, 0, buffer, position, length);
+        position += length;
+    }
+
+    private void append(final char value) throws IOException {
+        if (position + 3 > BUFFER_SIZE) {
+            drain();
+        }
+        encode(value);
+    }
+
+    private void encode(final char value) {
+        if (value < 0x80) {
+            buffer[position++] = (byte) value;
+        } else if (value < 0x800) {
+            buffer[position++] = (byte) (0xC0 | value >> 6);
+            buffer[position++] = (byte) (0x80 | value & 0x3F);
+        } else {
+            buffer[position++] = (byte) (0xE0 | value >> 12);
+            buffer[position++] = (byte) (0x80 | value >> 6 & 0x3F);
+            buffer[position++] = (byte) (0x80 | value & 0x3F);
+        }
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    private void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+}
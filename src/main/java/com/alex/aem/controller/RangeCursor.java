@@ -0,0 +1,58 @@
+package com.alex.aem.controller;
+
+import com.alex.aem.exception.RomanNumeralConversionException;
+import com.alex.aem.service.RomanNotation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a page within a range conversion, exchanged with clients as an opaque URL-safe token
+ * that holds the whole request, so the next page is fetched with the cursor alone.
+ * Decoded values are validated like any other request parameter.
+ * Public so that admission control can charge a cursor request for the page it fetches.
+ */
+public record RangeCursor(int min, int max, int offset, int limit, RomanNotation notation) {
+
+    private static final String VERSION = "1";
+
+    /**
+     * @return The cursor of the page following this one, or null when this page is the last one.
+     */
+    RangeCursor next() {
+        final long nextOffset = (long) offset + limit;
+        return nextOffset < total() ? new RangeCursor(min, max, (int) nextOffset, limit, notation) : null;
+    }
+
+    /**
+     * @return The number of conversions of the whole range.
+     */
+    public long total() {
+        return Math.max(0, (long) max - min + 1);
+    }
+
+    public String encode() {
+        final String value = String.join(":", VERSION, Integer.toString(min), Integer.toString(max),
+                Integer.toString(offset), Integer.toString(limit), notation.name());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor A token produced by {@link #encode()}.
+     * @return The decoded cursor.
+     * @throws RomanNumeralConversionException if the token is not a valid cursor.
+     */
+    public static RangeCursor decode(final String cursor) {
+        try {
+            final String[] fields = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII)
+                    .split(":", -1);
+            if (fields.length == 6 && VERSION.equals(fields[0])) {
+                return new RangeCursor(Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                        Integer.parseInt(fields[3]), Integer.parseInt(fields[4]), RomanNotation.valueOf(fields[5]));
+            }
+        } catch (final IllegalArgumentException e) {
+            // Malformed Base64, number or notation, reported below
+        }
+        throw new RomanNumeralConversionException("Cursor is not valid", "INVALID_CURSOR");
+    }
+}
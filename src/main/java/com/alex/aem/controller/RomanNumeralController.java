@@ -2,20 +2,42 @@ package com.alex.aem.controller;
 
 
 import com.alex.aem.data.ErrorResponse;
+import com.alex.aem.data.RomanNumeralBatchData;
 import com.alex.aem.data.RomanNumeralConversionsData;
+import com.alex.aem.data.RomanNumeralConversionsPage;
 import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.data.RomanNumeralRangeDelta;
+import com.alex.aem.data.RomanNumeralRangeSegment;
 import com.alex.aem.exception.RomanNumeralConversionException;
+import com.alex.aem.metrics.ConversionMetrics;
 import com.alex.aem.service.NumberConverterService;
+import com.alex.aem.service.RomanNotation;
 import com.alex.aem.service.RomanNumeralConverterService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Controller for handling Roman numeral conversion requests.
@@ -26,72 +48,323 @@ public class RomanNumeralController {
 
     private static final Logger log = LoggerFactory.getLogger(RomanNumeralController.class);
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final NumberConverterService converterService;
+    private final ConversionMetrics metrics;
 
-    public RomanNumeralController(final RomanNumeralConverterService romanNumeralConverterService) {
+    public RomanNumeralController(final RomanNumeralConverterService romanNumeralConverterService,
+                                  final ConversionMetrics metrics) {
         this.converterService = romanNumeralConverterService;
+        this.metrics = metrics;
     }
 
     /**
      * Handles all Roman numeral conversion requests.
-     * This method can handle single number conversion and range conversion.
+     * This method can handle single number conversion and range conversion,
+     * in standard notation (1 to 3999) or in vinculum notation (1 to 3,999,999).
+     * Ranges are written in the {@link ConversionFormat} negotiated from the Accept header,
+     * whole or one page at a time when {@code limit}, {@code offset} or {@code cursor} is given,
+     * or only the segments missing from the range the client holds when {@code heldMin} and {@code heldMax} are given.
+     * Whole ranges converted in parallel are returned as a {@link DeferredResult}, so the servlet thread is released
+     * until they complete; the conversion is cancelled when the request times out or the client disconnects.
      *
-     * @param query The single number to convert (optional).
-     * @param min   The lower bound of the range (optional).
-     * @param max   The upper bound of the range (optional).
-     * @return ResponseEntity with the converted Roman numeral(s) or error response.
+     * @param query    The single number to convert (optional).
+     * @param min      The lower bound of the range (optional).
+     * @param max      The upper bound of the range (optional).
+     * @param notation The notation of the numerals, {@code standard} or {@code vinculum} (optional).
+     * @param limit    The maximum number of conversions of a page of the range (optional).
+     * @param offset   The index of the first conversion of a page within the range (optional).
+     * @param cursor   The cursor of a page returned by a previous paged request (optional).
+     * @param heldMin  The lower bound of the range the client already holds (optional).
+     * @param heldMax  The upper bound of the range the client already holds (optional).
+     * @param accept   The Accept header of the request (optional).
+     * @param response The response, carrying the headers of streamed formats.
+     * @return ResponseEntity with the converted Roman numeral(s) or error response, a StreamingResponseBody for
+     * compact formats, or a DeferredResult of either.
      */
     @GetMapping
-    public ResponseEntity<?> handleConversion(
+    public Object handleConversion(
             @RequestParam(required = false) final Integer query,
             @RequestParam(required = false) final Integer min,
-            @RequestParam(required = false) final Integer max) {
+            @RequestParam(required = false) final Integer max,
+            @RequestParam(required = false) final String notation,
+            @RequestParam(required = false) final Integer limit,
+            @RequestParam(required = false) final Integer offset,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(required = false) final Integer heldMin,
+            @RequestParam(required = false) final Integer heldMax,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept,
+            final HttpServletResponse response) {
 
-        final Map<String, Integer> params = new HashMap<>();
-        if (query != null) {
-            params.put("query", query);
-        }
-        if (min != null) {
-            params.put("min", min);
-        }
-        if (max != null) {
-            params.put("max", max);
+        if (log.isDebugEnabled()) {
+            log.debug("Received conversion request with parameters: query={}, min={}, max={}, notation={}, "
+                    + "limit={}, offset={}, cursor={}, heldMin={}, heldMax={}",
+                    query, min, max, notation, limit, offset, cursor, heldMin, heldMax);
         }
 
-        log.info("Received conversion request with parameters: {}", params);
-
         try {
+            final RomanNotation romanNotation = RomanNotation.fromParameter(notation);
             if (query != null) {
-                return handleSingleConversion(query);
+                return handleSingleConversion(query, romanNotation);
+            } else if (cursor != null) {
+                return handleRangePage(RangeCursor.decode(cursor), ConversionFormat.negotiate(accept), response);
+            } else if (min != null && max != null && (heldMin != null || heldMax != null)) {
+                if (heldMin == null || heldMax == null || limit != null || offset != null) {
+                    log.debug("Invalid held range parameters: heldMin={}, heldMax={}, limit={}, offset={}",
+                            heldMin, heldMax, limit, offset);
+                    metrics.countError("INVALID_PARAMETERS");
+                    return ResponseEntity
+                            .badRequest()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(new ErrorResponse("INVALID_PARAMETERS",
+                                    "Both 'heldMin' and 'heldMax' must be provided, without 'limit' or 'offset'"));
+                }
+                return handleRangeDelta(min, max, heldMin, heldMax, romanNotation, ConversionFormat.negotiate(accept),
+                        response);
+            } else if (min != null && max != null && (limit != null || offset != null)) {
+                final RangeCursor page = new RangeCursor(min, max, offset == null ? 0 : offset,
+                        limit == null ? DEFAULT_PAGE_SIZE : limit, romanNotation);
+                return handleRangePage(page, ConversionFormat.negotiate(accept), response);
             } else if (min != null && max != null) {
-                return handleRangeConversion(min, max);
+                return handleRangeConversion(min, max, romanNotation, ConversionFormat.negotiate(accept), response);
             } else {
-                log.warn("Invalid parameter combination: {}", params);
+                log.debug("Invalid parameter combination: query={}, min={}, max={}", query, min, max);
+                metrics.countError("INVALID_PARAMETERS");
                 return ResponseEntity
                         .badRequest()
+                        .contentType(MediaType.APPLICATION_JSON)
                         .body(new ErrorResponse("INVALID_PARAMETERS", "Either 'query' or both 'min' and 'max' must be provided"));
             }
         } catch (final RomanNumeralConversionException e) {
-            log.warn("Conversion error for parameters {}: {}", params, e.getMessage());
-            return ResponseEntity
-                    .badRequest()
-                    .body(new ErrorResponse(e.getErrorCode(), e.getMessage()));
+            log.debug("Conversion error for parameters query={}, min={}, max={}: {}", query, min, max, e.getMessage());
+            return errorResponse(e);
         }
     }
 
+    /**
+     * Handles range conversion requests with {@code stream=true}.
+     * Conversions are written to the response as they are produced instead of being collected first,
+     * in the {@link ConversionFormat} negotiated from the Accept header, a JSON document by default.
+     *
+     * @param min      The lower bound of the range.
+     * @param max      The upper bound of the range.
+     * @param notation The notation of the numerals, {@code standard} or {@code vinculum} (optional).
+     * @param accept   The Accept header of the request (optional).
+     * @param response The response, carrying the content type of the stream.
+     * @return StreamingResponseBody writing the converted Roman numerals or error response.
+     */
+    @GetMapping(params = {"min", "max", "stream=true"})
+    public Object handleStreamingRangeConversion(
+            @RequestParam final int min,
+            @RequestParam final int max,
+            @RequestParam(required = false) final String notation,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept,
+            final HttpServletResponse response) {
 
-    private ResponseEntity<?> handleSingleConversion(final int query) {
-        log.info("Converting single number: {}", query);
-        final RomanNumeralData result = converterService.convertOneNumber(query);
-        return ResponseEntity.ok(result);
+        log.debug("Received streaming conversion request for range from {} to {}", min, max);
+
+        try {
+            final Stream<RomanNumeralData> conversions =
+                    converterService.streamMultipleNumbers(min, max, RomanNotation.fromParameter(notation));
+            return streamingResponse(response, ConversionStreamWriter.Conversions.of(conversions),
+                    ConversionFormat.negotiate(accept));
+        } catch (final RomanNumeralConversionException e) {
+            log.debug("Conversion error for streamed range {}-{}: {}", min, max, e.getMessage());
+            return errorResponse(e);
+        }
     }
 
-    private ResponseEntity<?> handleRangeConversion(final int min, final int max) {
-        log.info("Converting range from {} to {}", min, max);
-        final RomanNumeralConversionsData result = converterService.convertMultipleNumbers(min, max);
+    /**
+     * Handles Roman numeral to integer conversion requests.
+     *
+     * @param query The Roman numeral to convert.
+     * @return ResponseEntity with the integer value of the numeral or error response.
+     */
+    @GetMapping("/parse")
+    public ResponseEntity<?> handleParse(@RequestParam final String query) {
+        log.debug("Received parse request for: {}", query);
+
+        try {
+            final RomanNumeralData result = converterService.parse(query);
+            return ResponseEntity.ok(result);
+        } catch (final RomanNumeralConversionException e) {
+            log.debug("Parse error for {}: {}", query, e.getMessage());
+            return errorResponse(e);
+        }
+    }
+
+    /**
+     * Handles batch conversion requests with a JSON array body of numbers and/or Roman numerals,
+     * e.g. {@code [42, "XLII", 3999]}.
+     *
+     * @param items The numbers and numerals to convert.
+     * @return ResponseEntity with one result per item, in the same order, or error response.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> handleBatchConversion(@RequestBody final List<String> items) {
+        log.debug("Received batch conversion request with {} items", items.size());
+        return convertBatch(items);
+    }
+
+    /**
+     * Handles batch conversion requests with a plain text body holding one number or Roman numeral per line.
+     *
+     * @param body The request body.
+     * @return ResponseEntity with one result per line, in the same order, or error response.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<?> handleTextBatchConversion(@RequestBody final String body) {
+        final List<String> items = body.lines().map(String::strip).filter(line -> !line.isEmpty()).toList();
+        log.debug("Received text batch conversion request with {} items", items.size());
+        return convertBatch(items);
+    }
+
+    /**
+     * Handles scan requests with a plain text body, finding the Roman numerals of the text, canonical or not.
+     * The text is read and the numerals written as it streams, one newline delimited JSON object per numeral with
+     * its byte position in the text, its letters, its value, its canonical numeral and its form.
+     *
+     * @param ignoreCase Whether canonical numerals may be written in lower case, {@code false} by default.
+     * @param request    The request, whose body is the text to scan.
+     * @param response   The response, carrying the headers of the stream.
+     * @return StreamingResponseBody writing the numerals found in the text.
+     * @throws IOException if the request body cannot be opened.
+     */
+    @PostMapping(value = "/scan", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public StreamingResponseBody handleScan(
+            @RequestParam(defaultValue = "false") final boolean ignoreCase,
+            final HttpServletRequest request,
+            final HttpServletResponse response) throws IOException {
+        log.debug("Received scan request of {} bytes, ignoreCase={}", request.getContentLengthLong(), ignoreCase);
+        final InputStream text = request.getInputStream();
+        response.setContentType(ConversionFormat.NDJSON.getMediaType().toString());
+        return out -> ConversionStreamWriter.writeMatches(
+                consumer -> converterService.scanNumerals(text, ignoreCase, consumer), out);
+    }
+
+    private ResponseEntity<?> convertBatch(final List<String> items) {
+        try {
+            final RomanNumeralBatchData result = converterService.convertBatch(items);
+            return ResponseEntity.ok(result);
+        } catch (final RomanNumeralConversionException e) {
+            log.debug("Batch conversion error: {}", e.getMessage());
+            return errorResponse(e);
+        }
+    }
+
+    private ResponseEntity<ErrorResponse> errorResponse(final RomanNumeralConversionException e) {
+        metrics.countError(e.getErrorCode());
+        return ResponseEntity
+                .badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponse(e.getErrorCode(), e.getMessage()));
+    }
+
+    /**
+     * Streams conversions in a compact format. The body is returned on its own, with its headers set on the
+     * response, because Spring only streams a ResponseEntity body when the handler declares it as a
+     * {@code ResponseEntity<StreamingResponseBody>}.
+     */
+    private static StreamingResponseBody streamingResponse(
+            final HttpServletResponse response, final ConversionStreamWriter.Conversions conversions,
+            final ConversionFormat format) {
+        response.setContentType(format.getMediaType().toString());
+        return out -> format.write(conversions, out);
+    }
+
+    /**
+     * Returns the response of a conversion at once when it is already complete, e.g. a range served from the
+     * engine tables or converted inline, and otherwise a DeferredResult releasing the servlet thread until it
+     * completes. The conversion is cancelled when the request times out or fails, e.g. when the client disconnects.
+     */
+    private static <T> Object deferredResponse(final CompletableFuture<T> conversion,
+                                               final Function<T, Object> toResponse) {
+        if (conversion.state() == Future.State.SUCCESS) {
+            return toResponse.apply(conversion.resultNow());
+        }
+        final DeferredResult<Object> result = new DeferredResult<>();
+        result.onTimeout(() -> conversion.cancel(false));
+        result.onError(failure -> conversion.cancel(false));
+        conversion.whenComplete((value, failure) -> {
+            if (failure == null) {
+                result.setResult(toResponse.apply(value));
+            } else {
+                result.setErrorResult(failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure);
+            }
+        });
+        return result;
+    }
+
+    private ResponseEntity<?> handleSingleConversion(final int query, final RomanNotation notation) {
+        log.debug("Converting single number: {}", query);
+        final RomanNumeralData result = converterService.convertOneNumber(query, notation);
         return ResponseEntity.ok(result);
     }
 
+    private Object handleRangeConversion(final int min, final int max, final RomanNotation notation,
+                                         final ConversionFormat format, final HttpServletResponse response) {
+        log.debug("Converting range from {} to {} as {}", min, max, format);
+        final CompletableFuture<RomanNumeralConversionsData> conversion =
+                converterService.convertMultipleNumbersAsync(min, max, notation);
+        return deferredResponse(conversion, result -> {
+            if (format != ConversionFormat.JSON) {
+                // Compact formats bypass Jackson and are written straight to the response
+                return streamingResponse(response, ConversionStreamWriter.Conversions.of(result.conversions()),
+                        format);
+            }
+            return ResponseEntity.ok(result);
+        });
+    }
+
+    /**
+     * Converts one page of a range. The cursor of the next page is returned in the body of JSON pages
+     * and, for every format, as a {@code rel="next"} Link header.
+     */
+    private Object handleRangePage(final RangeCursor page, final ConversionFormat format,
+                                   final HttpServletResponse response) {
+        log.debug("Converting page of range from {} to {} at offset {} with limit {} as {}",
+                page.min(), page.max(), page.offset(), page.limit(), format);
+        final RomanNumeralConversionsData result = converterService.convertRangePage(
+                page.min(), page.max(), page.offset(), page.limit(), page.notation());
+        final RangeCursor next = page.next();
+        final String nextCursor = next == null ? null : next.encode();
+        if (nextCursor != null) {
+            final String nextUri = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                    .queryParam("cursor", nextCursor)
+                    .toUriString();
+            response.setHeader(HttpHeaders.LINK, "<" + nextUri + ">; rel=\"next\"");
+        }
+        if (format != ConversionFormat.JSON) {
+            return streamingResponse(response, ConversionStreamWriter.Conversions.of(result.conversions()), format);
+        }
+        return ResponseEntity.ok(new RomanNumeralConversionsPage(result.conversions(), page.offset(), page.limit(),
+                page.total(), nextCursor));
+    }
+
+    /**
+     * Converts only the segments of a range missing from the range the client holds. Compact formats write
+     * the conversions of every segment in order, each line or record carrying its own number.
+     */
+    private Object handleRangeDelta(final int min, final int max, final int heldMin, final int heldMax,
+                                    final RomanNotation notation, final ConversionFormat format,
+                                    final HttpServletResponse response) {
+        log.debug("Converting range from {} to {} without held range from {} to {} as {}",
+                min, max, heldMin, heldMax, format);
+        final RomanNumeralRangeDelta delta = converterService.convertRangeDelta(min, max, heldMin, heldMax, notation);
+        if (format != ConversionFormat.JSON) {
+            final ConversionStreamWriter.Conversions conversions = consumer -> {
+                for (final RomanNumeralRangeSegment segment : delta.segments()) {
+                    ConversionStreamWriter.Conversions.of(segment.conversions()).forEach(consumer);
+                }
+            };
+            return streamingResponse(response, conversions, format);
+        }
+        return ResponseEntity.ok(delta);
+    }
+
     /**
      * Handles missing request parameter exceptions.
      *
@@ -102,12 +375,46 @@ public class RomanNumeralController {
     public ResponseEntity<ErrorResponse> handleMissingParams(final MissingServletRequestParameterException ex) {
         final String paramName = ex.getParameterName();
         final String message = paramName + " parameter is missing";
-        log.warn("Missing parameter: {}", paramName);
+        log.debug("Missing parameter: {}", paramName);
+        metrics.countError("MISSING_PARAMETER");
         return ResponseEntity
                 .badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(new ErrorResponse("MISSING_PARAMETER", message));
     }
 
+    /**
+     * Handles request bodies that cannot be read, e.g. malformed JSON in a batch request.
+     *
+     * @param ex The exception thrown when the body cannot be converted.
+     * @return ResponseEntity with an error response.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(final HttpMessageNotReadableException ex) {
+        log.debug("Unreadable request body: {}", ex.getMessage());
+        metrics.countError("INVALID_BODY");
+        return ResponseEntity
+                .badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponse("INVALID_BODY", "The request body could not be read"));
+    }
+
+    /**
+     * Handles asynchronous range conversions that did not complete in time.
+     *
+     * @param ex The timeout of the conversion or of the asynchronous request.
+     * @return ResponseEntity with an error response.
+     */
+    @ExceptionHandler({TimeoutException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleTimeout(final Exception ex) {
+        log.debug("Conversion timed out: {}", ex.toString());
+        metrics.countError("CONVERSION_TIMEOUT");
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorResponse("CONVERSION_TIMEOUT", "The conversion did not complete in time"));
+    }
+
     /**
      * Handles general exceptions.
      *
@@ -117,8 +424,10 @@ public class RomanNumeralController {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(final Exception ex) {
         log.error("Unexpected error occurred", ex);
+        metrics.countError("INTERNAL_SERVER_ERROR");
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(new ErrorResponse("INTERNAL_SERVER_ERROR", "An unexpected error occurred"));
     }
 }
@@ -0,0 +1,5 @@
+package com.alex.aem.data;
+
+import java.util.List;
+
+public record RomanNumeralBatchData(List<RomanNumeralBatchItem> results) {}
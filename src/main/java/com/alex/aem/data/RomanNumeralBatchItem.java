@@ -0,0 +1,18 @@
+package com.alex.aem.data;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Result of one item of a batch conversion: either an output, or an error code and message.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RomanNumeralBatchItem(String input, String output, String errorCode, String message) {
+
+    public static RomanNumeralBatchItem success(final String input, final String output) {
+        return new RomanNumeralBatchItem(input, output, null, null);
+    }
+
+    public static RomanNumeralBatchItem error(final String input, final String errorCode, final String message) {
+        return new RomanNumeralBatchItem(input, null, errorCode, message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.alex.aem.data;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Collection;
+
+/**
+ * One page of a range conversion, with its position in the range and the cursor of the next page,
+ * absent on the last page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RomanNumeralConversionsPage(Collection<RomanNumeralData> conversions, int offset, int limit,
+                                          long total, String nextCursor) {}
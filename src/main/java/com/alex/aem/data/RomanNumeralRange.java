@@ -0,0 +1,90 @@
+package com.alex.aem.data;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Columnar result of a range conversion: the first number of the range and a column of numerals.
+ * Serializers read the numbers and numerals directly; {@link RomanNumeralData} records are only built
+ * when the range is read as a list, unless the range is backed by a shared column of records too.
+ */
+@JsonSerialize(using = RomanNumeralRangeSerializer.class)
+public final class RomanNumeralRange extends AbstractList<RomanNumeralData> implements RandomAccess {
+
+    private final int min;
+    private final int size;
+    private final String[] numerals;
+    private final RomanNumeralData[] records;
+    private final int offset;
+
+    private RomanNumeralRange(final int min, final int size, final String[] numerals,
+                              final RomanNumeralData[] records, final int offset) {
+        this.min = min;
+        this.size = size;
+        this.numerals = numerals;
+        this.records = records;
+        this.offset = offset;
+    }
+
+    /**
+     * Creates a range over a column holding the numerals of {@code min} and the following numbers.
+     *
+     * @param min      The first number of the range.
+     * @param numerals The numerals of the range, in order; the array is not copied.
+     * @return The range.
+     */
+    public static RomanNumeralRange of(final int min, final String[] numerals) {
+        return new RomanNumeralRange(min, numerals.length, numerals, null, 0);
+    }
+
+    /**
+     * Creates a range over shared tables indexed by number, e.g. the tables of a lookup engine.
+     * Nothing is copied, so the range costs the same whatever its size.
+     *
+     * @param min      The first number of the range.
+     * @param max      The last number of the range.
+     * @param numerals The numerals indexed by number.
+     * @param records  The conversion results indexed by number.
+     * @return The range.
+     */
+    public static RomanNumeralRange ofTables(final int min, final int max, final String[] numerals,
+                                             final RomanNumeralData[] records) {
+        return new RomanNumeralRange(min, max - min + 1, numerals, records, min);
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * @param index The position in the range.
+     * @return The number at that position.
+     */
+    public int number(final int index) {
+        return min + Objects.checkIndex(index, size);
+    }
+
+    /**
+     * @param index The position in the range.
+     * @return The Roman numeral of the number at that position.
+     */
+    public String numeral(final int index) {
+        return numerals[offset + Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public RomanNumeralData get(final int index) {
+        if (records != null) {
+            return records[offset + Objects.checkIndex(index, size)];
+        }
+        return new RomanNumeralData(Integer.toString(number(index)), numeral(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,17 @@
+package com.alex.aem.data;
+
+import java.util.List;
+
+/**
+ * The conversions of a range missing from a range the client already holds: at most one segment before
+ * the held range and one after it, in ascending order. Held conversions outside the requested range
+ * are no longer part of it.
+ *
+ * @param min      The first number of the requested range.
+ * @param max      The last number of the requested range.
+ * @param heldMin  The first number of the range the client holds.
+ * @param heldMax  The last number of the range the client holds.
+ * @param segments The missing segments, empty when the held range covers the requested one.
+ */
+public record RomanNumeralRangeDelta(int min, int max, int heldMin, int heldMax,
+                                     List<RomanNumeralRangeSegment> segments) {}
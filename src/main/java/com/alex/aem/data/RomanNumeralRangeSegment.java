@@ -0,0 +1,12 @@
+package com.alex.aem.data;
+
+import java.util.Collection;
+
+/**
+ * A contiguous part of a range conversion.
+ *
+ * @param min         The first number of the segment.
+ * @param max         The last number of the segment.
+ * @param conversions The conversions of the segment, ordered by input number.
+ */
+public record RomanNumeralRangeSegment(int min, int max, Collection<RomanNumeralData> conversions) {}
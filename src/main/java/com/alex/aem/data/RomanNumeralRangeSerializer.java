@@ -0,0 +1,49 @@
+package com.alex.aem.data;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link RomanNumeralRange} as the usual array of {@code {"input":..,"output":..}} objects,
+ * straight from its columns: inputs are formatted into a reused char buffer instead of a String per number.
+ */
+public class RomanNumeralRangeSerializer extends StdSerializer<RomanNumeralRange> {
+
+    public RomanNumeralRangeSerializer() {
+        super(RomanNumeralRange.class);
+    }
+
+    @Override
+    public void serialize(final RomanNumeralRange range, final JsonGenerator generator,
+                          final SerializerProvider provider) throws IOException {
+        final char[] digits = new char[10];
+        generator.writeStartArray(range, range.size());
+        for (int i = 0; i < range.size(); i++) {
+            generator.writeStartObject();
+            generator.writeFieldName("input");
+            final int start = formatDigits(range.number(i), digits);
+            generator.writeString(digits, start, digits.length - start);
+            generator.writeStringField("output", range.numeral(i));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Formats a positive number at the end of the buffer.
+     *
+     * @return The index of the first digit.
+     */
+    private static int formatDigits(final int number, final char[] digits) {
+        int remaining = number;
+        int position = digits.length;
+        do {
+            digits[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        return position;
+    }
+}
@@ -0,0 +1,26 @@
+package com.alex.aem.exception;
+
+public class AdmissionRejectedException extends RuntimeException {
+    private final String errorCode;
+
+    /**
+     * Constructs a new AdmissionRejectedException with the specified detail message and error code.
+     * No stack trace is captured, rejections are expected under load and must stay cheap.
+     *
+     * @param message   the detail message
+     * @param errorCode the error code, {@code TOO_MANY_REQUESTS} or {@code SERVICE_OVERLOADED}
+     */
+    public AdmissionRejectedException(final String message, final String errorCode) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Returns the error code associated with this exception.
+     *
+     * @return the error code
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,126 @@
+package com.alex.aem.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Structured, sampled access log replacing per-call application logging.
+ * Every request gets a correlation id, taken from the {@code X-Request-Id} header or generated, which is returned
+ * in the response and put in the MDC for any log written while the request is handled.
+ * One key=value line per sampled request is written to the {@code ACCESS_LOG} logger, which logback-spring.xml
+ * routes through an asynchronous appender; errors can be logged regardless of sampling.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final boolean alwaysLogErrors;
+
+    public AccessLogFilter(
+            @Value("${roman.access-log.enabled:true}") final boolean enabled,
+            @Value("${roman.access-log.sample-rate:0.01}") final double sampleRate,
+            @Value("${roman.access-log.always-log-errors:true}") final boolean alwaysLogErrors) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.alwaysLogErrors = alwaysLogErrors;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final long start = System.nanoTime();
+        final String requestId = requestId(request.getHeader(REQUEST_ID_HEADER));
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID_MDC_KEY);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(final AsyncEvent event) {
+                        log(request, response, requestId, start);
+                    }
+
+                    @Override
+                    public void onTimeout(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(final AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(request, response, requestId, start);
+            }
+        }
+    }
+
+    private void log(final HttpServletRequest request, final HttpServletResponse response,
+                     final String requestId, final long start) {
+        if (!enabled || !accessLog.isInfoEnabled()) {
+            return;
+        }
+        final int status = response.getStatus();
+        final boolean sampled = (alwaysLogErrors && status >= 400)
+                || sampleRate >= 1.0
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        if (!sampled) {
+            return;
+        }
+        final long durationMicros = (System.nanoTime() - start) / 1_000;
+        final String query = request.getQueryString();
+        accessLog.info("requestId={} method={} path={} query=\"{}\" status={} durationMicros={} sampleRate={}",
+                requestId, request.getMethod(), request.getRequestURI(), query == null ? "" : query,
+                status, durationMicros, sampleRate);
+    }
+
+    /**
+     * Reuses the caller's correlation id when it is safe to echo back, otherwise generates one.
+     */
+    private static String requestId(final String header) {
+        if (header != null && !header.isEmpty() && header.length() <= MAX_REQUEST_ID_LENGTH && isSafe(header)) {
+            return header;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    private static boolean isSafe(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.') || c > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,122 @@
+package com.alex.aem.metrics;
+
+import com.alex.aem.service.RangeExecutionMode;
+import com.alex.aem.service.RangeExecutionPlanner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the conversion hot paths. Meters with a fixed set of tags are registered up front,
+ * so recording does not look them up in the registry.
+ */
+@Component
+public class ConversionMetrics {
+
+    /**
+     * Kind of execution planned by the service.
+     */
+    public enum ExecutionKind {
+        RANGE, BATCH
+    }
+
+    private final MeterRegistry registry;
+    private final Timer batchTimer;
+    private final Map<ExecutionKind, DistributionSummary> executionSizes = new EnumMap<>(ExecutionKind.class);
+    private final Map<ExecutionKind, Map<RangeExecutionMode, DistributionSummary>> batchSizes = new EnumMap<>(ExecutionKind.class);
+    private final Map<ExecutionKind, Map<RangeExecutionMode, DistributionSummary>> batchCounts = new EnumMap<>(ExecutionKind.class);
+    private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+    private final Map<String, Timer> requests = new ConcurrentHashMap<>();
+
+    public ConversionMetrics(final MeterRegistry registry) {
+        this.registry = registry;
+        this.batchTimer = Timer.builder("roman.execution.batch.duration")
+                .description("Time spent converting one batch of a range or batch request")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        for (final ExecutionKind kind : ExecutionKind.values()) {
+            final String kindTag = kind.name().toLowerCase();
+            executionSizes.put(kind, DistributionSummary.builder("roman.execution.size")
+                    .description("Number of conversions per range or batch request")
+                    .baseUnit("conversions")
+                    .tag("kind", kindTag)
+                    .publishPercentileHistogram()
+                    .register(registry));
+
+            final Map<RangeExecutionMode, DistributionSummary> sizes = new EnumMap<>(RangeExecutionMode.class);
+            final Map<RangeExecutionMode, DistributionSummary> counts = new EnumMap<>(RangeExecutionMode.class);
+            for (final RangeExecutionMode mode : RangeExecutionMode.values()) {
+                final String modeTag = mode.name().toLowerCase();
+                sizes.put(mode, DistributionSummary.builder("roman.execution.batch.size")
+                        .description("Conversions per batch, by execution mode")
+                        .baseUnit("conversions")
+                        .tags("kind", kindTag, "mode", modeTag)
+                        .register(registry));
+                counts.put(mode, DistributionSummary.builder("roman.execution.batches")
+                        .description("Batches per request, by execution mode")
+                        .baseUnit("batches")
+                        .tags("kind", kindTag, "mode", modeTag)
+                        .register(registry));
+            }
+            batchSizes.put(kind, sizes);
+            batchCounts.put(kind, counts);
+        }
+    }
+
+    /**
+     * Records the plan chosen for a range or batch request.
+     *
+     * @param kind  Whether the plan is for a range or a batch.
+     * @param plan  The chosen plan.
+     * @param total The number of conversions of the request.
+     */
+    public void recordPlan(final ExecutionKind kind, final RangeExecutionPlanner.Plan plan, final int total) {
+        executionSizes.get(kind).record(total);
+        batchSizes.get(kind).get(plan.mode()).record(plan.batchSize());
+        batchCounts.get(kind).get(plan.mode()).record(plan.numBatches());
+    }
+
+    /**
+     * Records the time spent on one batch.
+     *
+     * @param nanos The duration of the batch, in nanoseconds.
+     */
+    public void recordBatch(final long nanos) {
+        batchTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Counts a conversion error by its error code.
+     *
+     * @param errorCode The error code of the RomanNumeralConversionException.
+     */
+    public void countError(final String errorCode) {
+        errors.computeIfAbsent(errorCode, code -> Counter.builder("roman.errors")
+                .description("Conversion errors by error code")
+                .tag("code", code)
+                .register(registry)).increment();
+    }
+
+    /**
+     * Records the latency of one request.
+     *
+     * @param mode    The request mode (single, range, stream, parse, batch or invalid).
+     * @param outcome Whether the request succeeded or failed.
+     * @param nanos   The duration of the request, in nanoseconds.
+     */
+    public void recordRequest(final String mode, final String outcome, final long nanos) {
+        requests.computeIfAbsent(mode + '/' + outcome, key -> Timer.builder("roman.requests")
+                .description("Latency of conversion requests by mode and outcome")
+                .tags("mode", mode, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
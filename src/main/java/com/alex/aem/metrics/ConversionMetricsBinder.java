@@ -0,0 +1,117 @@
+package com.alex.aem.metrics;
+
+import com.alex.aem.admission.AdmissionController;
+import com.alex.aem.cache.ConversionResponseCache;
+import com.alex.aem.service.LookupTableRomanNumeralEngine;
+import com.alex.aem.service.MappedTableRomanNumeralEngine;
+import com.alex.aem.service.RangeExecutionPlanner;
+import com.alex.aem.service.RomanNumeralEngine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the statistics the conversion components already keep (lookup table build, response cache,
+ * fork-join pool, admission control) as meters, read when the registry is scraped.
+ */
+@Component
+public class ConversionMetricsBinder implements MeterBinder {
+
+    private final RomanNumeralEngine engine;
+    private final RangeExecutionPlanner planner;
+    private final ObjectProvider<ConversionResponseCache> cache;
+    private final ObjectProvider<AdmissionController> admission;
+
+    public ConversionMetricsBinder(final RomanNumeralEngine engine, final RangeExecutionPlanner planner,
+                                   final ObjectProvider<ConversionResponseCache> cache,
+                                   final ObjectProvider<AdmissionController> admission) {
+        this.engine = engine;
+        this.planner = planner;
+        this.cache = cache;
+        this.admission = admission;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (engine instanceof LookupTableRomanNumeralEngine lookup) {
+            Gauge.builder("roman.engine.table.build.time", lookup, table -> table.getBuildTimeNanos() / 1e9)
+                    .description("Time spent building the lookup table at startup")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("roman.engine.table.footprint", lookup, LookupTableRomanNumeralEngine::getFootprintBytes)
+                    .description("Estimated heap retained by the lookup table")
+                    .baseUnit("bytes")
+                    .register(registry);
+        } else if (engine instanceof MappedTableRomanNumeralEngine mapped) {
+            Gauge.builder("roman.engine.table.load.time", mapped, table -> table.getLoadTimeNanos() / 1e9)
+                    .description("Time spent mapping and validating the table file at startup")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("roman.engine.table.mapped", mapped, MappedTableRomanNumeralEngine::getMappedBytes)
+                    .description("Size of the table file mapped outside the heap")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+
+        Gauge.builder("roman.execution.item.cost", planner, RangeExecutionPlanner::getItemCostNanos)
+                .description("Estimated cost of one conversion used by the execution planner")
+                .baseUnit("nanoseconds")
+                .register(registry);
+        new ExecutorServiceMetrics(planner.getPool(), "roman.execution.pool", Tags.empty()).bindTo(registry);
+
+        cache.ifAvailable(responseCache -> {
+            FunctionCounter.builder("roman.cache.requests", responseCache, ConversionResponseCache::getSingleHits)
+                    .description("Response cache lookups")
+                    .tags("cache", "single", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("roman.cache.requests", responseCache, ConversionResponseCache::getRangeHits)
+                    .description("Response cache lookups")
+                    .tags("cache", "range", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("roman.cache.requests", responseCache, ConversionResponseCache::getRangeMisses)
+                    .description("Response cache lookups")
+                    .tags("cache", "range", "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("roman.cache.evictions", responseCache, ConversionResponseCache::getRangeEvictions)
+                    .description("Range responses evicted from the cache")
+                    .tag("cache", "range")
+                    .register(registry);
+            Gauge.builder("roman.cache.entries", responseCache, ConversionResponseCache::getRangeEntries)
+                    .description("Range responses currently cached")
+                    .tag("cache", "range")
+                    .register(registry);
+            Gauge.builder("roman.cache.size", responseCache, ConversionResponseCache::getRangeBytes)
+                    .description("Bytes of range responses currently cached")
+                    .baseUnit("bytes")
+                    .tag("cache", "range")
+                    .register(registry);
+        });
+
+        admission.ifAvailable(admissionController -> {
+            for (final AdmissionController.Endpoint endpoint : AdmissionController.Endpoint.values()) {
+                final String endpointTag = endpoint.name().toLowerCase();
+                for (final AdmissionController.Rejection rejection : AdmissionController.Rejection.values()) {
+                    FunctionCounter.builder("roman.admission.rejections", admissionController,
+                                    controller -> controller.getRejections(endpoint, rejection))
+                            .description("Requests rejected by admission control")
+                            .tags("endpoint", endpointTag, "reason", rejection.name().toLowerCase())
+                            .register(registry);
+                }
+                Gauge.builder("roman.admission.in.flight", admissionController,
+                                controller -> controller.getInFlight(endpoint))
+                        .description("Admitted requests in progress")
+                        .tag("endpoint", endpointTag)
+                        .register(registry);
+            }
+            Gauge.builder("roman.admission.cost.in.flight", admissionController, AdmissionController::getCostInFlight)
+                    .description("Numbers being converted by admitted range requests")
+                    .baseUnit("conversions")
+                    .register(registry);
+        });
+    }
+}
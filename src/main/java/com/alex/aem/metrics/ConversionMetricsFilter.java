@@ -0,0 +1,97 @@
+package com.alex.aem.metrics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Times every conversion request, including those answered by the response cache,
+ * tagged by request mode and outcome. Streamed responses are timed until the stream completes.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class ConversionMetricsFilter extends OncePerRequestFilter {
+
+    private static final String BASE_PATH = "/romannumeral";
+
+    private final ConversionMetrics metrics;
+
+    public ConversionMetricsFilter(final ConversionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + BASE_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final long start = System.nanoTime();
+        final String mode = mode(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(final AsyncEvent event) {
+                        record(mode, response, start);
+                    }
+
+                    @Override
+                    public void onTimeout(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(final AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(mode, response, start);
+            }
+        }
+    }
+
+    private void record(final String mode, final HttpServletResponse response, final long start) {
+        final String outcome = response.getStatus() < 400 ? "success" : "error";
+        metrics.recordRequest(mode, outcome, System.nanoTime() - start);
+    }
+
+    private static String mode(final HttpServletRequest request) {
+        final String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals(BASE_PATH + "/parse")) {
+            return "parse";
+        }
+        if (path.equals(BASE_PATH + "/batch")) {
+            return "batch";
+        }
+        if (path.equals(BASE_PATH + "/scan")) {
+            return "scan";
+        }
+        if (!path.equals(BASE_PATH)) {
+            return "invalid";
+        }
+        if (request.getParameter("query") != null) {
+            return "single";
+        }
+        if (request.getParameter("min") != null && request.getParameter("max") != null) {
+            return "true".equals(request.getParameter("stream")) ? "stream" : "range";
+        }
+        return "invalid";
+    }
+}
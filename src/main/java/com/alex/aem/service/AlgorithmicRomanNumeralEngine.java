@@ -0,0 +1,82 @@
+package com.alex.aem.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Engine that computes every conversion on demand by walking the denominations table.
+ */
+@Component
+@ConditionalOnProperty(name = "roman.converter.engine", havingValue = "algorithmic")
+public class AlgorithmicRomanNumeralEngine implements RomanNumeralEngine {
+
+    private static final Map<Integer, String> denominations = new LinkedHashMap<>();
+
+    static {
+        denominations.put(3000, "MMM");
+        denominations.put(2000, "MM");
+        denominations.put(1000, "M");
+        denominations.put(900, "CM");
+        denominations.put(800, "DCCC");
+        denominations.put(700, "DCC");
+        denominations.put(600, "DC");
+        denominations.put(500, "D");
+        denominations.put(400, "CD");
+        denominations.put(300, "CCC");
+        denominations.put(200, "CC");
+        denominations.put(100, "C");
+        denominations.put(90, "XC");
+        denominations.put(80, "LXXX");
+        denominations.put(70, "LXX");
+        denominations.put(60, "LX");
+        denominations.put(50, "L");
+        denominations.put(40, "XL");
+        denominations.put(30, "XXX");
+        denominations.put(20, "XX");
+        denominations.put(10, "X");
+        denominations.put(9, "IX");
+        denominations.put(8, "VIII");
+        denominations.put(7, "VII");
+        denominations.put(6, "VI");
+        denominations.put(5, "V");
+        denominations.put(4, "IV");
+        denominations.put(3, "III");
+        denominations.put(2, "II");
+        denominations.put(1, "I");
+
+    }
+
+    /**
+     * Logic to convert Arabic numeral to Roman.
+     *
+     * @param number The input Arabic numeral
+     * @return The Roman representation of the input Arabic numeral
+     */
+    @Override
+    public String convert(final int number) {
+        final StringBuilder romanNumber = new StringBuilder();
+        int workingNumber = number;
+
+        for (final Map.Entry<Integer, String> value : denominations.entrySet()) {
+            int intNumber = value.getKey();
+
+            final int wholePart = workingNumber / intNumber;
+            final int remainder = workingNumber % intNumber;
+
+            if (wholePart >= 1) {
+                romanNumber.append(value.getValue());
+            }
+
+            workingNumber = remainder;
+
+            if (remainder == 0) {
+                break;
+            }
+        }
+
+        return romanNumber.toString();
+    }
+}
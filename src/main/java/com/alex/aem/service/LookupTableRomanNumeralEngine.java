@@ -0,0 +1,114 @@
+package com.alex.aem.service;
+
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.data.RomanNumeralRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Engine that precomputes every conversion of the 1 to 3999 domain at startup.
+ * Lookups are plain array accesses and return shared immutable results, so no allocation happens per call.
+ * The table also keeps the UTF-8 encoded form of every numeral for callers that write bytes directly.
+ */
+@Component
+@ConditionalOnProperty(name = "roman.converter.engine", havingValue = "lookup", matchIfMissing = true)
+public class LookupTableRomanNumeralEngine implements RomanNumeralEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(LookupTableRomanNumeralEngine.class);
+
+    /**
+     * Largest number covered by the table.
+     */
+    public static final int MAX_NUMBER = 3999;
+
+    private static final long RECORD_BYTES = 24;
+
+    private final String[] romanNumerals = new String[MAX_NUMBER + 1];
+    private final RomanNumeralData[] results = new RomanNumeralData[MAX_NUMBER + 1];
+    private final byte[][] utf8Numerals = new byte[MAX_NUMBER + 1][];
+
+    private final long buildTimeNanos;
+    private final long footprintBytes;
+
+    public LookupTableRomanNumeralEngine() {
+        this(new AlgorithmicRomanNumeralEngine());
+    }
+
+    /**
+     * Builds the table using the given engine as the source of truth for every conversion.
+     *
+     * @param source The engine used to compute each entry once.
+     */
+    public LookupTableRomanNumeralEngine(final RomanNumeralEngine source) {
+        final long start = System.nanoTime();
+        long footprint = 3 * arrayBytes(4L * (MAX_NUMBER + 1));
+
+        for (int number = 1; number <= MAX_NUMBER; number++) {
+            final String input = Integer.toString(number);
+            final String output = source.convert(number);
+
+            romanNumerals[number] = output;
+            results[number] = new RomanNumeralData(input, output);
+            utf8Numerals[number] = output.getBytes(StandardCharsets.US_ASCII);
+
+            footprint += stringBytes(input) + stringBytes(output) + RECORD_BYTES
+                    + arrayBytes(output.length());
+        }
+
+        this.buildTimeNanos = System.nanoTime() - start;
+        this.footprintBytes = footprint;
+        log.info("Built Roman numeral lookup table for 1..{} in {} µs, estimated heap footprint {} KiB",
+                MAX_NUMBER, buildTimeNanos / 1_000, footprintBytes / 1024);
+    }
+
+    @Override
+    public String convert(final int number) {
+        return romanNumerals[number];
+    }
+
+    @Override
+    public RomanNumeralData toData(final int number) {
+        return results[number];
+    }
+
+    @Override
+    public RomanNumeralRange precomputedRange(final int min, final int max) {
+        return RomanNumeralRange.ofTables(min, max, romanNumerals, results);
+    }
+
+    /**
+     * Returns the ASCII (and therefore UTF-8) encoded Roman numeral. The returned array is shared and must not be modified.
+     *
+     * @param number The validated input number.
+     * @return The encoded Roman numeral.
+     */
+    public byte[] utf8(final int number) {
+        return utf8Numerals[number];
+    }
+
+    /**
+     * @return The time spent building the table, in nanoseconds.
+     */
+    public long getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+
+    /**
+     * @return An estimate of the heap retained by the table, in bytes (compressed oops, compact strings).
+     */
+    public long getFootprintBytes() {
+        return footprintBytes;
+    }
+
+    private static long stringBytes(final String value) {
+        return 24 + arrayBytes(value.length());
+    }
+
+    private static long arrayBytes(final long length) {
+        return (16 + length + 7) & ~7L;
+    }
+}
@@ -0,0 +1,110 @@
+package com.alex.aem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Engine that reads every conversion from a {@link RomanNumeralTableFile} memory-mapped outside the heap.
+ * Instances on the same host mapping the same file share its pages, start without building a table and leave
+ * nothing for the garbage collector to trace. The table may extend past 3999 with vinculum numerals, which the
+ * {@link VinculumRomanNumeralFormatter} then reads from the file too.
+ * When the file is missing, or was written for another format version or largest number, it is generated once
+ * from the algorithmic engine and moved into place atomically, so concurrent instances never map a partial file.
+ */
+@Component
+@ConditionalOnProperty(name = "roman.converter.engine", havingValue = "mapped")
+public class MappedTableRomanNumeralEngine implements RomanNumeralEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedTableRomanNumeralEngine.class);
+
+    private final RomanNumeralTableFile table;
+    private final long loadTimeNanos;
+
+    public MappedTableRomanNumeralEngine(
+            @Value("${roman.converter.table.path:roman-numerals.table}") final String path,
+            @Value("${roman.converter.table.max-number:3999}") final int maxNumber,
+            @Value("${roman.converter.table.generate:true}") final boolean generate) {
+        if (maxNumber < LookupTableRomanNumeralEngine.MAX_NUMBER || maxNumber > RomanNotation.VINCULUM.getMaxValue()) {
+            throw new IllegalArgumentException("roman.converter.table.max-number must be between "
+                    + LookupTableRomanNumeralEngine.MAX_NUMBER + " and " + RomanNotation.VINCULUM.getMaxValue());
+        }
+        final long start = System.nanoTime();
+        try {
+            this.table = load(Path.of(path), maxNumber, generate);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Cannot map the Roman numeral table " + path, e);
+        }
+        this.loadTimeNanos = System.nanoTime() - start;
+        log.info("Mapped Roman numeral table {} for 1..{} in {} µs, {} KiB off heap",
+                path, maxNumber, loadTimeNanos / 1_000, table.getMappedBytes() / 1024);
+    }
+
+    private static RomanNumeralTableFile load(final Path path, final int maxNumber, final boolean generate)
+            throws IOException {
+        if (Files.exists(path)) {
+            try {
+                final RomanNumeralTableFile existing = RomanNumeralTableFile.open(path);
+                if (existing.getMaxNumber() == maxNumber || (!generate && existing.getMaxNumber() > maxNumber)) {
+                    return existing;
+                }
+                if (!generate) {
+                    throw new IllegalStateException("The Roman numeral table " + path + " ends at "
+                            + existing.getMaxNumber() + ", below roman.converter.table.max-number " + maxNumber);
+                }
+                log.info("Roman numeral table {} ends at {}, regenerating it up to {}",
+                        path, existing.getMaxNumber(), maxNumber);
+            } catch (final IOException e) {
+                if (!generate) {
+                    throw e;
+                }
+                log.warn("Regenerating the Roman numeral table: {}", e.getMessage());
+            }
+        } else if (!generate) {
+            throw new IOException("The table does not exist and roman.converter.table.generate is false");
+        }
+        final VinculumRomanNumeralFormatter source =
+                new VinculumRomanNumeralFormatter(new AlgorithmicRomanNumeralEngine());
+        RomanNumeralTableFile.write(path, maxNumber, source::convert);
+        return RomanNumeralTableFile.open(path);
+    }
+
+    /**
+     * Converts a validated number, up to the largest number of the table, reading its numeral from the file.
+     *
+     * @param number The input Arabic numeral
+     * @return The Roman representation of the input Arabic numeral, in vinculum notation above 3999
+     */
+    @Override
+    public String convert(final int number) {
+        return table.numeral(number);
+    }
+
+    /**
+     * @return The largest number of the mapped table, at least 3999.
+     */
+    public int getMaxNumber() {
+        return table.getMaxNumber();
+    }
+
+    /**
+     * @return The time spent mapping and validating the table, and generating it when needed.
+     */
+    public long getLoadTimeNanos() {
+        return loadTimeNanos;
+    }
+
+    /**
+     * @return The size of the mapped table, outside the heap.
+     */
+    public long getMappedBytes() {
+        return table.getMappedBytes();
+    }
+}
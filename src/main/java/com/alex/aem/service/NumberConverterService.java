@@ -1,9 +1,32 @@
 package com.alex.aem.service;
 
+import com.alex.aem.data.RomanNumeralBatchData;
 import com.alex.aem.data.RomanNumeralConversionsData;
 import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.data.RomanNumeralRangeDelta;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 public interface NumberConverterService {
     RomanNumeralData convertOneNumber(final int number);
+    RomanNumeralData convertOneNumber(final int number, final RomanNotation notation);
     RomanNumeralConversionsData convertMultipleNumbers(final int min, final int max);
+    RomanNumeralConversionsData convertMultipleNumbers(final int min, final int max, final RomanNotation notation);
+    CompletableFuture<RomanNumeralConversionsData> convertMultipleNumbersAsync(final int min, final int max);
+    CompletableFuture<RomanNumeralConversionsData> convertMultipleNumbersAsync(final int min, final int max,
+                                                                              final RomanNotation notation);
+    RomanNumeralConversionsData convertRangePage(final int min, final int max, final int offset, final int limit,
+                                                 final RomanNotation notation);
+    RomanNumeralRangeDelta convertRangeDelta(final int min, final int max, final int heldMin, final int heldMax,
+                                             final RomanNotation notation);
+    Stream<RomanNumeralData> streamMultipleNumbers(final int min, final int max);
+    Stream<RomanNumeralData> streamMultipleNumbers(final int min, final int max, final RomanNotation notation);
+    RomanNumeralData parse(final String numeral);
+    RomanNumeralBatchData convertBatch(final List<String> items);
+    long scanNumerals(final InputStream text, final boolean ignoreCase,
+                      final RomanNumeralScanner.MatchConsumer consumer) throws IOException;
 }
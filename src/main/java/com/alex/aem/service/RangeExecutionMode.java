@@ -0,0 +1,23 @@
+package com.alex.aem.service;
+
+/**
+ * How the batches of a range conversion are executed.
+ */
+public enum RangeExecutionMode {
+    /**
+     * Picks {@link #SEQUENTIAL} or {@link #FORK_JOIN} per request from the estimated cost of the range.
+     */
+    ADAPTIVE,
+    /**
+     * Converts the whole range inline on the calling thread.
+     */
+    SEQUENTIAL,
+    /**
+     * Runs the batches as a parallel stream on a shared fork-join pool.
+     */
+    FORK_JOIN,
+    /**
+     * Runs every batch on its own virtual thread, using a new executor per request.
+     */
+    VIRTUAL_THREADS
+}
@@ -0,0 +1,182 @@
+package com.alex.aem.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides how a range conversion is executed, using a simple cost model:
+ * the per-number cost of the active engine (measured at startup unless configured)
+ * and the fixed cost of dispatching one parallel task.
+ * Small ranges run inline, larger ones are split into batches big enough to amortize the task overhead.
+ */
+@Component
+public class RangeExecutionPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(RangeExecutionPlanner.class);
+
+    /**
+     * Each task should do at least this many times its own dispatch overhead in actual work.
+     */
+    private static final int MIN_WORK_TO_OVERHEAD_RATIO = 10;
+
+    /**
+     * Batches per worker thread, so faster workers can pick up the slack of slower ones.
+     */
+    private static final int BATCHES_PER_WORKER = 4;
+
+    private static final int CALIBRATION_MAX_ROUNDS = 500;
+    private static final long CALIBRATION_BUDGET_NANOS = 50_000_000;
+
+    private final RangeExecutionMode mode;
+    private final int configuredBatchSize;
+    private final long sequentialThresholdNanos;
+    private final long taskOverheadNanos;
+    private final long itemCostNanos;
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final Map<RangeExecutionMode, LongAdder> executions = new EnumMap<>(RangeExecutionMode.class);
+
+    /**
+     * Execution plan of one range conversion.
+     *
+     * @param mode       The mode the range is executed with, never {@link RangeExecutionMode#ADAPTIVE}.
+     * @param batchSize  The number of conversions per batch.
+     * @param numBatches The number of batches.
+     */
+    public record Plan(RangeExecutionMode mode, int batchSize, int numBatches) {
+    }
+
+    public RangeExecutionPlanner(
+            final RomanNumeralEngine engine,
+            @Value("${roman.converter.execution.mode:adaptive}") final String mode,
+            @Value("${roman.converter.batch.size:0}") final int configuredBatchSize,
+            @Value("${roman.converter.execution.parallelism:0}") final int parallelism,
+            @Value("${roman.converter.execution.sequential-threshold-nanos:50000}") final long sequentialThresholdNanos,
+            @Value("${roman.converter.execution.task-overhead-nanos:2000}") final long taskOverheadNanos,
+            @Value("${roman.converter.execution.item-cost-nanos:0}") final long itemCostNanos) {
+        this.mode = RangeExecutionMode.valueOf(mode.trim().toUpperCase().replace('-', '_'));
+        this.configuredBatchSize = configuredBatchSize;
+        this.sequentialThresholdNanos = sequentialThresholdNanos;
+        this.taskOverheadNanos = taskOverheadNanos;
+        this.itemCostNanos = itemCostNanos > 0 ? itemCostNanos : calibrate(engine);
+        this.ownsPool = parallelism > 0;
+        this.pool = ownsPool ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+        for (final RangeExecutionMode value : RangeExecutionMode.values()) {
+            executions.put(value, new LongAdder());
+        }
+        log.info("Range execution mode {}, parallelism {}, estimated cost {} ns per number",
+                this.mode, pool.getParallelism(), this.itemCostNanos);
+    }
+
+    /**
+     * Plans the execution of a validated range.
+     *
+     * @param min The lower bound of the range (inclusive).
+     * @param max The upper bound of the range (inclusive).
+     * @return The plan to execute the range with.
+     */
+    public Plan plan(final int min, final int max) {
+        return plan(max - min + 1);
+    }
+
+    /**
+     * Plans the execution of a given number of conversions.
+     *
+     * @param totalNumbers The number of conversions to execute, at least 1.
+     * @return The plan to execute the conversions with.
+     */
+    public Plan plan(final int totalNumbers) {
+        final RangeExecutionMode chosenMode = mode != RangeExecutionMode.ADAPTIVE ? mode
+                : totalNumbers * itemCostNanos < sequentialThresholdNanos ? RangeExecutionMode.SEQUENTIAL
+                : RangeExecutionMode.FORK_JOIN;
+        executions.get(chosenMode).increment();
+
+        if (chosenMode == RangeExecutionMode.SEQUENTIAL) {
+            return new Plan(chosenMode, totalNumbers, 1);
+        }
+        final int batchSize = determineBatchSize(totalNumbers);
+        return new Plan(chosenMode, batchSize, (totalNumbers + batchSize - 1) / batchSize);
+    }
+
+    /**
+     * Determines the batch size from configuration or, when not configured, from the cost model:
+     * large enough to amortize the task overhead, small enough to give every worker several batches.
+     *
+     * @param totalNumbers The size of the range.
+     * @return The determined batch size.
+     */
+    private int determineBatchSize(final int totalNumbers) {
+        if (configuredBatchSize > 0) {
+            return configuredBatchSize;
+        }
+        final long minBatchSize = (taskOverheadNanos * MIN_WORK_TO_OVERHEAD_RATIO + itemCostNanos - 1) / itemCostNanos;
+        final int targetBatches = pool.getParallelism() * BATCHES_PER_WORKER;
+        final long balancedBatchSize = (totalNumbers + targetBatches - 1) / targetBatches;
+        return (int) Math.min(totalNumbers, Math.max(minBatchSize, balancedBatchSize));
+    }
+
+    /**
+     * @return The shared pool used by {@link RangeExecutionMode#FORK_JOIN} executions.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @return The configured execution mode.
+     */
+    public RangeExecutionMode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return The estimated cost of converting one number, in nanoseconds.
+     */
+    public long getItemCostNanos() {
+        return itemCostNanos;
+    }
+
+    /**
+     * Returns how many ranges were planned with the given mode since startup.
+     *
+     * @param executionMode The mode to look up.
+     * @return The number of ranges executed with that mode.
+     */
+    public long getExecutionCount(final RangeExecutionMode executionMode) {
+        return executions.get(executionMode).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Measures the per-number cost of the engine over the whole domain, keeping the best of as many rounds
+     * as fit in the calibration budget so the JIT gets a chance to compile the engine first.
+     */
+    private static long calibrate(final RomanNumeralEngine engine) {
+        final long deadline = System.nanoTime() + CALIBRATION_BUDGET_NANOS;
+        long best = Long.MAX_VALUE;
+        int sink = 0;
+        for (int round = 0; round < CALIBRATION_MAX_ROUNDS && System.nanoTime() < deadline; round++) {
+            final long start = System.nanoTime();
+            for (int number = 1; number <= LookupTableRomanNumeralEngine.MAX_NUMBER; number++) {
+                sink += engine.toData(number).output().length();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        log.debug("Calibration checksum {}", sink);
+        return Math.max(1, best / LookupTableRomanNumeralEngine.MAX_NUMBER);
+    }
+}
@@ -0,0 +1,87 @@
+package com.alex.aem.service;
+
+import com.alex.aem.data.RomanNumeralData;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+
+/**
+ * Iterates over the conversions of a range in order while the following chunks are converted in parallel.
+ * At most {@code window} chunks are in flight or buffered, so memory stays bounded whatever the range size.
+ */
+final class ReadAheadRangeIterator implements Iterator<RomanNumeralData>, AutoCloseable {
+
+    private final int max;
+    private final int chunkSize;
+    private final IntFunction<RomanNumeralData> converter;
+    private final Executor executor;
+    private final ArrayDeque<CompletableFuture<RomanNumeralData[]>> pending = new ArrayDeque<>();
+
+    private long nextChunkStart;
+    private RomanNumeralData[] current = new RomanNumeralData[0];
+    private int index;
+
+    ReadAheadRangeIterator(final int min, final int max, final int chunkSize, final int window,
+                           final IntFunction<RomanNumeralData> converter, final Executor executor) {
+        this.max = max;
+        this.chunkSize = chunkSize;
+        this.converter = converter;
+        this.executor = executor;
+        this.nextChunkStart = min;
+        for (int i = 0; i < window; i++) {
+            scheduleNextChunk();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (index < current.length) {
+            return true;
+        }
+        final CompletableFuture<RomanNumeralData[]> next = pending.poll();
+        if (next == null) {
+            return false;
+        }
+        current = next.join();
+        index = 0;
+        scheduleNextChunk();
+        return true;
+    }
+
+    @Override
+    public RomanNumeralData next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current[index++];
+    }
+
+    /**
+     * Cancels the chunks not consumed yet, e.g. when the client went away.
+     */
+    @Override
+    public void close() {
+        pending.forEach(future -> future.cancel(false));
+        pending.clear();
+    }
+
+    private void scheduleNextChunk() {
+        if (nextChunkStart > max) {
+            return;
+        }
+        final int start = (int) nextChunkStart;
+        final int end = (int) Math.min(nextChunkStart + chunkSize - 1, max);
+        nextChunkStart = (long) end + 1;
+        pending.add(CompletableFuture.supplyAsync(() -> {
+            final RomanNumeralData[] chunk = new RomanNumeralData[end - start + 1];
+            for (int i = start; i <= end; i++) {
+                chunk[i - start] = converter.apply(i);
+            }
+            return chunk;
+        }, executor));
+    }
+}
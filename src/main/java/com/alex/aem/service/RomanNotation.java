@@ -0,0 +1,49 @@
+package com.alex.aem.service;
+
+import com.alex.aem.exception.RomanNumeralConversionException;
+
+/**
+ * Notation used to write Roman numerals.
+ */
+public enum RomanNotation {
+    /**
+     * Standard notation, from I to MMMCMXCIX (1 to 3999).
+     */
+    STANDARD(3999),
+    /**
+     * Vinculum notation: from 4000 on, the thousands are written as a standard numeral under an overline
+     * (a combining overline, U+0305, after each letter), followed by the standard numeral of the remainder.
+     * Covers 1 to 3,999,999.
+     */
+    VINCULUM(3_999_999);
+
+    private final int maxValue;
+
+    RomanNotation(final int maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    /**
+     * @return The largest number that can be written in this notation.
+     */
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Resolves a notation from a request parameter, ignoring case.
+     *
+     * @param value The parameter value, null for the standard notation.
+     * @return The notation.
+     * @throws RomanNumeralConversionException if the value names no notation.
+     */
+    public static RomanNotation fromParameter(final String value) {
+        if (value == null || value.equalsIgnoreCase("standard")) {
+            return STANDARD;
+        }
+        if (value.equalsIgnoreCase("vinculum")) {
+            return VINCULUM;
+        }
+        throw new RomanNumeralConversionException("Notation must be 'standard' or 'vinculum'", "INVALID_NOTATION");
+    }
+}
@@ -0,0 +1,133 @@
+package com.alex.aem.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Minimal deterministic automaton accepting exactly the numerals of a converter, over the seven Roman letters.
+ * It is built from the converter output itself, as a trie of every numeral merged into its minimal form,
+ * so it accepts what the converter writes and nothing else. Transitions are a flat table indexed by
+ * {@code state * LETTERS + letter}; state {@value #DEAD} rejects every letter and is never accepting.
+ */
+final class RomanNumeralAutomaton {
+
+    /**
+     * The Roman letters, in the order of their letter indices.
+     */
+    static final String ROMAN_LETTERS = "IVXLCDM";
+
+    static final int LETTERS = ROMAN_LETTERS.length();
+
+    static final int DEAD = 0;
+
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final int start;
+
+    private RomanNumeralAutomaton(final int[] transitions, final boolean[] accepting, final int start) {
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.start = start;
+    }
+
+    /**
+     * Builds the automaton of the numerals of 1 to {@code maxNumber}.
+     *
+     * @param numerals  The numeral of each number.
+     * @param maxNumber The largest number.
+     * @return The minimal automaton accepting these numerals.
+     * @throws IllegalArgumentException if a numeral holds a character that is not a Roman letter.
+     */
+    static RomanNumeralAutomaton of(final IntFunction<String> numerals, final int maxNumber) {
+        // Trie of every numeral; children are created after their parent, so they have larger indices
+        final List<int[]> children = new ArrayList<>();
+        final BitSet terminal = new BitSet();
+        children.add(new int[LETTERS]);
+        for (int number = 1; number <= maxNumber; number++) {
+            final String numeral = numerals.apply(number);
+            int node = 0;
+            for (int i = 0; i < numeral.length(); i++) {
+                final int letter = ROMAN_LETTERS.indexOf(numeral.charAt(i));
+                if (letter < 0) {
+                    throw new IllegalArgumentException("Not a Roman letter in " + numeral);
+                }
+                if (children.get(node)[letter] == 0) {
+                    children.get(node)[letter] = children.size();
+                    children.add(new int[LETTERS]);
+                }
+                node = children.get(node)[letter];
+            }
+            terminal.set(node);
+        }
+
+        // Merges the nodes with the same acceptance and the same merged children, from the leaves up,
+        // which minimizes an acyclic automaton in one pass
+        final int[] stateOf = new int[children.size()];
+        final Map<List<Integer>, Integer> states = new HashMap<>();
+        final List<int[]> rows = new ArrayList<>();
+        final BitSet accepted = new BitSet();
+        rows.add(new int[LETTERS]);
+        for (int node = children.size() - 1; node >= 0; node--) {
+            final int[] row = new int[LETTERS];
+            final List<Integer> signature = new ArrayList<>(LETTERS + 1);
+            signature.add(terminal.get(node) ? 1 : 0);
+            for (int letter = 0; letter < LETTERS; letter++) {
+                final int child = children.get(node)[letter];
+                row[letter] = child == 0 ? DEAD : stateOf[child];
+                signature.add(row[letter]);
+            }
+            final Integer existing = states.get(signature);
+            if (existing != null) {
+                stateOf[node] = existing;
+            } else {
+                stateOf[node] = rows.size();
+                states.put(signature, rows.size());
+                accepted.set(rows.size(), terminal.get(node));
+                rows.add(row);
+            }
+        }
+
+        final int[] transitions = new int[rows.size() * LETTERS];
+        final boolean[] accepting = new boolean[rows.size()];
+        for (int state = 0; state < rows.size(); state++) {
+            System.arraycopy(rows.get(state), 0, transitions, state * LETTERS, LETTERS);
+            accepting[state] = accepted.get(state);
+        }
+        return new RomanNumeralAutomaton(transitions, accepting, stateOf[0]);
+    }
+
+    /**
+     * @return The state before the first letter.
+     */
+    int start() {
+        return start;
+    }
+
+    /**
+     * @param state  The current state.
+     * @param letter The index of the letter read, in {@link #ROMAN_LETTERS}.
+     * @return The state after the letter, {@link #DEAD} once no numeral can match.
+     */
+    int next(final int state, final int letter) {
+        return transitions[state * LETTERS + letter];
+    }
+
+    /**
+     * @param state A state.
+     * @return Whether the letters read up to this state are a numeral of the converter.
+     */
+    boolean accepts(final int state) {
+        return accepting[state];
+    }
+
+    /**
+     * @return The number of states, the dead state included.
+     */
+    int size() {
+        return accepting.length;
+    }
+}
@@ -1,8 +1,14 @@
 package com.alex.aem.service;
 
+import com.alex.aem.data.RomanNumeralBatchData;
+import com.alex.aem.data.RomanNumeralBatchItem;
 import com.alex.aem.data.RomanNumeralConversionsData;
 import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.data.RomanNumeralRange;
+import com.alex.aem.data.RomanNumeralRangeDelta;
+import com.alex.aem.data.RomanNumeralRangeSegment;
 import com.alex.aem.exception.RomanNumeralConversionException;
+import com.alex.aem.metrics.ConversionMetrics;
 import com.alex.aem.validator.RomanValidator;
 import jakarta.annotation.Resource;
 import org.slf4j.Logger;
@@ -10,66 +16,73 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Service for converting integers to Roman numerals.
- * Provides methods for single number conversion and parallel conversion of a range of numbers.
+ * Provides methods for single number conversion, parallel conversion of a range or a batch of numbers,
+ * synchronously or asynchronously, and parsing of Roman numerals.
  */
 @Service
 public class RomanNumeralConverterService implements NumberConverterService {
 
     private static final Logger log = LoggerFactory.getLogger(RomanNumeralConverterService.class);
 
-    private static final Map<Integer, String> denominations = new LinkedHashMap<>();
+    /**
+     * Upper bound of the chunks converted ahead of a parallel stream, to keep its memory bounded.
+     */
+    private static final int MAX_READ_AHEAD_CHUNK = 4096;
+
+    /**
+     * Number of indices a batch of an asynchronous execution processes between two checks for cancellation.
+     */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
 
     /**
-     * Batch size configuration. If set to 0 or not provided, adaptive batching will be used.
+     * Starts every task on its own virtual thread, for asynchronous ranges planned on virtual threads.
      */
-    @Value("${roman.converter.batch.size:0}")
-    private int configuredBatchSize;
+    private static final Executor VIRTUAL_THREADS = Thread::startVirtualThread;
+
+    /**
+     * Time after which an asynchronous range fails with a {@link java.util.concurrent.TimeoutException}
+     * and its batches that have not started are cancelled, 0 to never time out.
+     */
+    @Value("${roman.converter.range.timeout-millis:10000}")
+    private long rangeTimeoutMillis;
 
     @Resource
     private RomanValidator validator;
 
-    static {
-        denominations.put(3000, "MMM");
-        denominations.put(2000, "MM");
-        denominations.put(1000, "M");
-        denominations.put(900, "CM");
-        denominations.put(800, "DCCC");
-        denominations.put(700, "DCC");
-        denominations.put(600, "DC");
-        denominations.put(500, "D");
-        denominations.put(400, "CD");
-        denominations.put(300, "CCC");
-        denominations.put(200, "CC");
-        denominations.put(100, "C");
-        denominations.put(90, "XC");
-        denominations.put(80, "LXXX");
-        denominations.put(70, "LXX");
-        denominations.put(60, "LX");
-        denominations.put(50, "L");
-        denominations.put(40, "XL");
-        denominations.put(30, "XXX");
-        denominations.put(20, "XX");
-        denominations.put(10, "X");
-        denominations.put(9, "IX");
-        denominations.put(8, "VIII");
-        denominations.put(7, "VII");
-        denominations.put(6, "VI");
-        denominations.put(5, "V");
-        denominations.put(4, "IV");
-        denominations.put(3, "III");
-        denominations.put(2, "II");
-        denominations.put(1, "I");
+    @Resource
+    private RomanNumeralEngine engine;
 
-    }
+    @Resource
+    private VinculumRomanNumeralFormatter vinculumFormatter;
+
+    @Resource
+    private RangeExecutionPlanner planner;
+
+    @Resource
+    private ConversionMetrics metrics;
+
+    @Resource
+    private RomanNumeralScanner scanner;
 
     /**
      * Converts a single integer to its Roman numeral representation.
@@ -80,124 +93,467 @@ public class RomanNumeralConverterService implements NumberConverterService {
      */
     @Override
     public RomanNumeralData convertOneNumber(final int number) {
-        log.debug("Converting single number: {}", number);
-        validator.validateInput(number, number);
-        final String romanNumber = convert(number);
-        log.info("Converted {} to {}", number, romanNumber);
-        return new RomanNumeralData(Integer.toString(number), romanNumber);
+        return convertOneNumber(number, RomanNotation.STANDARD);
     }
 
     /**
-     * Converts a range of integers to their Roman numeral representations using parallel processing.
+     * Converts a single integer to its Roman numeral representation in the given notation.
+     *
+     * @param number   The integer to convert (must be between 1 and the maximum of the notation).
+     * @param notation The notation to write the numeral in.
+     * @return A RomanNumeralData object containing the input and its Roman numeral representation.
+     * @throws RomanNumeralConversionException if the input is out of the valid range.
+     */
+    @Override
+    public RomanNumeralData convertOneNumber(final int number, final RomanNotation notation) {
+        validator.validateInput(number, number, notation.getMaxValue());
+        final RomanNumeralData result = converterFor(notation).apply(number);
+        log.debug("Converted {} to {}", number, result.output());
+        return result;
+    }
+
+    /**
+     * Converts a range of integers to their Roman numeral representations, in parallel when the range is large enough.
      *
      * @param min The lower bound of the range (inclusive).
      * @param max The upper bound of the range (inclusive).
-     * @return A RomanNumeralConversionsData object containing all conversions, sorted by input number.
+     * @return A RomanNumeralConversionsData object containing all conversions, ordered by input number.
      * @throws RomanNumeralConversionException if min > max or if the range is outside 1-3999.
      */
     @Override
     public RomanNumeralConversionsData convertMultipleNumbers(final int min, final int max) {
-        log.debug("Converting range from {} to {}", min, max);
-        validator.validateInput(min, max);
+        return convertMultipleNumbers(min, max, RomanNotation.STANDARD);
+    }
 
-        final int batchSize = determineBatchSize(min, max);
-        final int totalNumbers = max - min + 1;
-        final int numBatches = (totalNumbers + batchSize - 1) / batchSize;
+    /**
+     * Converts a range of integers to their Roman numeral representations in the given notation,
+     * in parallel when the range is large enough.
+     * The result is a columnar {@link RomanNumeralRange}; standard ranges of an engine holding every numeral
+     * are served from its tables without converting or copying anything.
+     *
+     * @param min      The lower bound of the range (inclusive).
+     * @param max      The upper bound of the range (inclusive).
+     * @param notation The notation to write the numerals in.
+     * @return A RomanNumeralConversionsData object containing all conversions, ordered by input number.
+     * @throws RomanNumeralConversionException if min > max, if the range is outside the notation or too large.
+     */
+    @Override
+    public RomanNumeralConversionsData convertMultipleNumbers(final int min, final int max,
+                                                              final RomanNotation notation) {
+        log.debug("Converting range from {} to {} in {} notation", min, max, notation);
+        validator.validateInput(min, max, notation.getMaxValue());
+        validator.validateRangeSize(min, max);
+        return convertRange(min, max, notation);
+    }
+
+    /**
+     * Converts a range of integers to their Roman numeral representations asynchronously.
+     *
+     * @param min The lower bound of the range (inclusive).
+     * @param max The upper bound of the range (inclusive).
+     * @return A future of the conversions, ordered by input number.
+     * @throws RomanNumeralConversionException if min > max or if the range is outside 1-3999.
+     */
+    @Override
+    public CompletableFuture<RomanNumeralConversionsData> convertMultipleNumbersAsync(final int min, final int max) {
+        return convertMultipleNumbersAsync(min, max, RomanNotation.STANDARD);
+    }
 
-        log.info("Using {} batches, with batch size of {} for {} numbers", numBatches, batchSize, totalNumbers);
+    /**
+     * Converts a range of integers to their Roman numeral representations in the given notation asynchronously,
+     * so the caller does not wait for the batches of a parallel plan. The range is validated immediately, so
+     * errors are thrown before a future is returned. Ranges served from the engine tables or planned sequentially
+     * are converted in the calling thread and returned as a completed future.
+     * <p>
+     * Cancelling the future, or its timeout, cancels the batches that have not started yet and stops the running
+     * ones shortly after, so a range whose client has gone away stops taking workers from the other requests.
+     *
+     * @param min      The lower bound of the range (inclusive).
+     * @param max      The upper bound of the range (inclusive).
+     * @param notation The notation to write the numerals in.
+     * @return A future of the conversions, ordered by input number.
+     * @throws RomanNumeralConversionException if min > max, if the range is outside the notation or too large.
+     */
+    @Override
+    public CompletableFuture<RomanNumeralConversionsData> convertMultipleNumbersAsync(final int min, final int max,
+                                                                                     final RomanNotation notation) {
+        log.debug("Converting range from {} to {} in {} notation asynchronously", min, max, notation);
+        validator.validateInput(min, max, notation.getMaxValue());
+        validator.validateRangeSize(min, max);
+        return convertRange(min, max, notation, true);
+    }
 
-        final List<CompletableFuture<List<RomanNumeralData>>> batchFutures = new ArrayList<>();
+    /**
+     * Converts one page of a range, the {@code limit} numbers starting {@code offset} numbers after {@code min}.
+     * The bounds of the page are computed arithmetically, so only the numbers of the page are converted.
+     *
+     * @param min      The lower bound of the range (inclusive).
+     * @param max      The upper bound of the range (inclusive).
+     * @param offset   The index of the first number of the page within the range.
+     * @param limit    The maximum number of conversions of the page.
+     * @param notation The notation to write the numerals in.
+     * @return The conversions of the page, ordered by input number, empty when the offset is past the range.
+     * @throws RomanNumeralConversionException if the range is invalid or the offset or limit out of bounds.
+     */
+    @Override
+    public RomanNumeralConversionsData convertRangePage(final int min, final int max, final int offset,
+                                                        final int limit, final RomanNotation notation) {
+        log.debug("Converting page of range from {} to {} at offset {} with limit {}", min, max, offset, limit);
+        validator.validateInput(min, max, notation.getMaxValue());
+        validator.validatePage(offset, limit);
+        final long first = (long) min + offset;
+        if (first > max) {
+            return new RomanNumeralConversionsData(RomanNumeralRange.of(min, new String[0]));
+        }
+        return convertRange((int) first, (int) Math.min(max, first + limit - 1), notation);
+    }
 
-        // Create an ExecutorService that uses virtual threads
-        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            // Create and submit tasks for each batch
-            for (int batchIndex = 0; batchIndex < numBatches; batchIndex++) {
-                final int currentBatchIndex = batchIndex;
-                final CompletableFuture<List<RomanNumeralData>> future = CompletableFuture.supplyAsync(
-                        () -> processBatch(min, max, currentBatchIndex, batchSize),
-                        executor
-                );
-                batchFutures.add(future);
-            }
+    /**
+     * Converts the numbers of a range missing from a range the client already holds, so clients polling
+     * overlapping ranges only download what changed: the segments before and after the held range.
+     * Standard segments are slices of the engine tables, so nothing is converted or copied for them.
+     *
+     * @param min      The lower bound of the requested range (inclusive).
+     * @param max      The upper bound of the requested range (inclusive).
+     * @param heldMin  The lower bound of the range the client holds (inclusive).
+     * @param heldMax  The upper bound of the range the client holds (inclusive).
+     * @param notation The notation to write the numerals in.
+     * @return The missing segments of the requested range, in ascending order.
+     * @throws RomanNumeralConversionException if a range is invalid or the missing numbers too many.
+     */
+    @Override
+    public RomanNumeralRangeDelta convertRangeDelta(final int min, final int max, final int heldMin,
+                                                    final int heldMax, final RomanNotation notation) {
+        log.debug("Converting range from {} to {} without the held range from {} to {}", min, max, heldMin, heldMax);
+        validator.validateInput(min, max, notation.getMaxValue());
+        validator.validateHeldRange(heldMin, heldMax);
+
+        // Bounds of the segments before and after the held range; a disjoint held range leaves one of them whole
+        final int beforeMax = (int) Math.min(max, (long) heldMin - 1);
+        final int afterMin = (int) Math.max(min, (long) heldMax + 1);
+        final boolean before = min <= beforeMax;
+        final boolean after = afterMin <= max;
+        validator.validateDeltaSize((before ? (long) beforeMax - min + 1 : 0)
+                + (after ? (long) max - afterMin + 1 : 0));
+
+        final List<RomanNumeralRangeSegment> segments = new ArrayList<>(2);
+        if (before) {
+            segments.add(new RomanNumeralRangeSegment(min, beforeMax,
+                    convertRange(min, beforeMax, notation).conversions()));
+        }
+        if (after) {
+            segments.add(new RomanNumeralRangeSegment(afterMin, max,
+                    convertRange(afterMin, max, notation).conversions()));
+        }
+        return new RomanNumeralRangeDelta(min, max, heldMin, heldMax, segments);
+    }
+
+    private RomanNumeralConversionsData convertRange(final int min, final int max, final RomanNotation notation) {
+        return convertRange(min, max, notation, false).join();
+    }
 
-            // Wait for all futures to complete and collect results
-            CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0])).join();
+    /**
+     * Converts a validated range. Synchronous conversions, and asynchronous ones that would not run in parallel,
+     * are complete when returned.
+     */
+    private CompletableFuture<RomanNumeralConversionsData> convertRange(final int min, final int max,
+                                                                        final RomanNotation notation,
+                                                                        final boolean async) {
+        if (notation == RomanNotation.STANDARD) {
+            final RomanNumeralRange precomputed = engine.precomputedRange(min, max);
+            if (precomputed != null) {
+                log.debug("Serving range from {} to {} from the engine tables", min, max);
+                return CompletableFuture.completedFuture(new RomanNumeralConversionsData(precomputed));
+            }
         }
+        final IntFunction<String> converter =
+                notation == RomanNotation.VINCULUM ? vinculumFormatter::convert : engine::convert;
 
-        final List<RomanNumeralData> allResults = batchFutures.stream()
-                .flatMap(future -> future.join().stream())
-                .sorted(Comparator.comparing(data -> Integer.parseInt(data.input())))
-                .collect(Collectors.toList());
+        final RangeExecutionPlanner.Plan plan = planner.plan(min, max);
+        metrics.recordPlan(ConversionMetrics.ExecutionKind.RANGE, plan, max - min + 1);
+        final int batchSize = plan.batchSize();
+        final int numBatches = plan.numBatches();
+        final int totalNumbers = max - min + 1;
 
-        return new RomanNumeralConversionsData(allResults);
+        log.debug("Using {} execution with {} batches, with batch size of {} for {} numbers",
+                plan.mode(), numBatches, batchSize, totalNumbers);
+
+        // Every batch writes into its own slice of the numeral column, so the results are ordered without sorting
+        final String[] numerals = new String[totalNumbers];
+        final BatchTask task = (from, to) -> {
+            for (int i = from; i < to; i++) {
+                numerals[i] = converter.apply(min + i);
+            }
+        };
+
+        final Supplier<RomanNumeralConversionsData> result =
+                () -> new RomanNumeralConversionsData(RomanNumeralRange.of(min, numerals));
+
+        if (!async || plan.mode() == RangeExecutionMode.SEQUENTIAL || numBatches == 1) {
+            execute(plan, totalNumbers, task);
+            return CompletableFuture.completedFuture(result.get());
+        }
+        return executeAsync(plan, totalNumbers, task, result);
     }
 
     /**
-     * Processes a batch of numbers for conversion to Roman numerals.
+     * Converts a range of integers lazily, in ascending order, without materializing the results.
+     * The range is validated immediately, so errors surface before the caller starts consuming the stream.
      *
-     * @param min        The lower bound of the overall range.
-     * @param max        The upper bound of the overall range.
-     * @param batchIndex The index of the current batch.
-     * @param batchSize  The size of each batch.
-     * @return A list of RomanNumeralData objects for the processed batch.
+     * @param min The lower bound of the range (inclusive).
+     * @param max The upper bound of the range (inclusive).
+     * @return An ordered stream producing each conversion on demand.
+     * @throws RomanNumeralConversionException if min > max or if the range is outside 1-3999.
      */
-    private List<RomanNumeralData> processBatch(final int min, final int max, final int batchIndex, final int batchSize) {
-        final int start = min + (batchIndex * batchSize);
-        final int end = Math.min(start + batchSize - 1, max);
-        log.debug("Processing batch {} from {} to {}", batchIndex, start, end);
+    @Override
+    public Stream<RomanNumeralData> streamMultipleNumbers(final int min, final int max) {
+        return streamMultipleNumbers(min, max, RomanNotation.STANDARD);
+    }
 
-        final List<RomanNumeralData> results = new ArrayList<>();
-        for (int i = start; i <= end; i++) {
-            results.add(new RomanNumeralData(Integer.toString(i), convert(i)));
+    /**
+     * Converts a range of integers lazily in the given notation, in ascending order, without materializing the results.
+     * When the planner picks a parallel execution, the following chunks of the range are converted ahead on the
+     * planner pool while the caller consumes the current one; closing the stream cancels them.
+     *
+     * @param min      The lower bound of the range (inclusive).
+     * @param max      The upper bound of the range (inclusive).
+     * @param notation The notation to write the numerals in.
+     * @return An ordered stream producing each conversion on demand.
+     * @throws RomanNumeralConversionException if min > max or if the range is outside the notation.
+     */
+    @Override
+    public Stream<RomanNumeralData> streamMultipleNumbers(final int min, final int max, final RomanNotation notation) {
+        log.debug("Streaming range from {} to {} in {} notation", min, max, notation);
+        validator.validateInput(min, max, notation.getMaxValue());
+        final IntFunction<RomanNumeralData> converter = converterFor(notation);
+
+        final int totalNumbers = max - min + 1;
+        final RangeExecutionPlanner.Plan plan = planner.plan(min, max);
+        if (plan.mode() == RangeExecutionMode.SEQUENTIAL || plan.numBatches() == 1) {
+            return IntStream.rangeClosed(min, max).mapToObj(converter);
         }
-        return results;
 
+        final int chunkSize = Math.min(plan.batchSize(), MAX_READ_AHEAD_CHUNK);
+        final int window = 2 * planner.getPool().getParallelism();
+        log.debug("Streaming {} numbers with read ahead of {} chunks of {}", totalNumbers, window, chunkSize);
+        final ReadAheadRangeIterator iterator =
+                new ReadAheadRangeIterator(min, max, chunkSize, window, converter, planner.getPool());
+        final Spliterator<RomanNumeralData> spliterator = Spliterators.spliterator(iterator, totalNumbers,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(iterator::close);
     }
 
     /**
-     * Determines the appropriate batch size based on configuration or input range.
+     * Parses a canonical Roman numeral back to its integer value.
      *
-     * @param min The lower bound of the range.
-     * @param max The upper bound of the range.
-     * @return The determined batch size.
+     * @param numeral The Roman numeral to parse, in upper case.
+     * @return A RomanNumeralData object with the numeral as input and its integer value as output.
+     * @throws RomanNumeralConversionException if the input is not a canonical Roman numeral.
      */
-    private int determineBatchSize(final int min, final int max) {
-        if (configuredBatchSize > 0) {
-            return configuredBatchSize;
+    @Override
+    public RomanNumeralData parse(final String numeral) {
+        log.debug("Parsing Roman numeral: {}", numeral);
+        validator.validateNumeral(numeral);
+        final int value = RomanNumeralParser.parse(numeral);
+        if (value == RomanNumeralParser.INVALID) {
+            log.debug("Non canonical Roman numeral: {}", numeral);
+            throw new RomanNumeralConversionException(numeral + " is not a valid Roman numeral", "INVALID_NUMERAL");
         }
-        // Adaptive batching: Adjust batch size based on the range
-        // Minimum batch size: 10, Maximum batch size: 1000
-        // For ranges larger than 50,000, batch size will be 1000
-        return Math.max(10, Math.min((max - min + 1) / 50, 1000));
+        // The engine result already holds the decimal string of the value
+        return new RomanNumeralData(numeral, engine.toData(value).input());
     }
 
     /**
-     * Logic to convert Arabic numeral to Roman.
+     * Converts a list of items, each either a decimal number or a Roman numeral, in the order given.
+     * Invalid items get an error result instead of failing the whole batch.
+     * Large batches are split and executed like ranges.
      *
-     * @param number The input Arabic numeral
-     * @return The Roman representation of the input Arabic numeral
+     * @param items The numbers and numerals to convert.
+     * @return A RomanNumeralBatchData object with one result per item, in the same order.
+     * @throws RomanNumeralConversionException if the batch itself is too large.
      */
-    private String convert(final int number) {
-        final StringBuilder romanNumber = new StringBuilder();
-        int workingNumber = number;
+    @Override
+    public RomanNumeralBatchData convertBatch(final List<String> items) {
+        log.debug("Converting batch of {} items", items.size());
+        validator.validateBatchSize(items.size());
+        if (items.isEmpty()) {
+            return new RomanNumeralBatchData(List.of());
+        }
+
+        final RangeExecutionPlanner.Plan plan = planner.plan(items.size());
+        metrics.recordPlan(ConversionMetrics.ExecutionKind.BATCH, plan, items.size());
+        log.debug("Using {} execution with {} batches, with batch size of {} for {} items",
+                plan.mode(), plan.numBatches(), plan.batchSize(), items.size());
 
-        for (final Map.Entry<Integer, String> value : denominations.entrySet()) {
-            int intNumber = value.getKey();
+        final RomanNumeralBatchItem[] results = new RomanNumeralBatchItem[items.size()];
+        execute(plan, items.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = convertItem(items.get(i));
+            }
+        });
+        return new RomanNumeralBatchData(Arrays.asList(results));
+    }
+
+    /**
+     * Finds the Roman numerals of a text, canonical or not, with their position, value and form.
+     *
+     * @param text       The text, in an ASCII compatible encoding such as UTF-8, read to its end.
+     * @param ignoreCase Whether canonical numerals may be written in lower case.
+     * @param consumer   Receives the numerals in the order of the text.
+     * @return The number of bytes scanned.
+     * @throws IOException if the text cannot be read or the consumer fails.
+     */
+    @Override
+    public long scanNumerals(final InputStream text, final boolean ignoreCase,
+                             final RomanNumeralScanner.MatchConsumer consumer) throws IOException {
+        final long start = System.nanoTime();
+        final long scanned = scanner.scan(text, ignoreCase, consumer);
+        log.debug("Scanned {} bytes for Roman numerals in {} µs", scanned, (System.nanoTime() - start) / 1_000);
+        return scanned;
+    }
 
-            final int wholePart = workingNumber / intNumber;
-            final int remainder = workingNumber % intNumber;
+    private IntFunction<RomanNumeralData> converterFor(final RomanNotation notation) {
+        return notation == RomanNotation.VINCULUM ? vinculumFormatter::toData : engine::toData;
+    }
 
-            if (wholePart >= 1) {
-                romanNumber.append(value.getValue());
+    /**
+     * Converts one batch item: decimal numbers to Roman numerals and Roman numerals to decimal numbers.
+     */
+    private RomanNumeralBatchItem convertItem(final String item) {
+        try {
+            if (item != null && isDecimal(item)) {
+                final int number = Integer.parseInt(item);
+                validator.validateInput(number, number);
+                return RomanNumeralBatchItem.success(item, engine.convert(number));
             }
+            return RomanNumeralBatchItem.success(item, parse(item).output());
+        } catch (final NumberFormatException e) {
+            metrics.countError("OUT_OF_RANGE");
+            return RomanNumeralBatchItem.error(item, "OUT_OF_RANGE", "Numbers must be between 1 and 3999");
+        } catch (final RomanNumeralConversionException e) {
+            metrics.countError(e.getErrorCode());
+            return RomanNumeralBatchItem.error(item, e.getErrorCode(), e.getMessage());
+        }
+    }
 
-            workingNumber = remainder;
+    private static boolean isDecimal(final String item) {
+        final int start = item.startsWith("-") || item.startsWith("+") ? 1 : 0;
+        if (start == item.length()) {
+            return false;
+        }
+        for (int i = start; i < item.length(); i++) {
+            if (item.charAt(i) < '0' || item.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Unit of work over the indices {@code [from, to)} of a planned execution.
+     */
+    @FunctionalInterface
+    private interface BatchTask {
+        void process(int from, int to);
+    }
+
+    /**
+     * Executes a task over {@code total} indices according to the plan and waits for its completion,
+     * which also publishes the writes of every batch to the calling thread.
+     */
+    private void execute(final RangeExecutionPlanner.Plan plan, final int total, final BatchTask task) {
+        switch (plan.mode()) {
+            case FORK_JOIN -> planner.getPool().submit(() -> IntStream.range(0, plan.numBatches())
+                    .parallel()
+                    .forEach(batchIndex -> processBatch(batchIndex, plan.batchSize(), total, task))
+            ).join();
+            case VIRTUAL_THREADS -> processOnVirtualThreads(plan, total, task);
+            default -> processBatch(0, total, total, task);
+        }
+    }
+
+    /**
+     * Runs every batch on its own virtual thread and waits for all of them.
+     */
+    private void processOnVirtualThreads(final RangeExecutionPlanner.Plan plan, final int total, final BatchTask task) {
+        final CompletableFuture<?>[] batchFutures = new CompletableFuture<?>[plan.numBatches()];
+
+        // Create an ExecutorService that uses virtual threads
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Create and submit tasks for each batch
+            for (int batchIndex = 0; batchIndex < plan.numBatches(); batchIndex++) {
+                final int currentBatchIndex = batchIndex;
+                batchFutures[batchIndex] = CompletableFuture.runAsync(
+                        () -> processBatch(currentBatchIndex, plan.batchSize(), total, task),
+                        executor
+                );
+            }
 
-            if (remainder == 0) {
-                break;
+            // Wait for all futures to complete
+            CompletableFuture.allOf(batchFutures).join();
+        }
+    }
+
+    /**
+     * Starts every batch of a parallel plan without waiting for them, on the planner pool or on virtual threads.
+     * The returned future completes with the result once every batch has completed, which also publishes their
+     * writes. When it fails, times out or is cancelled first, the batches that have not started yet never run
+     * and the running ones stop at their next chunk of {@value #CANCELLATION_CHECK_INTERVAL} indices.
+     */
+    private <T> CompletableFuture<T> executeAsync(final RangeExecutionPlanner.Plan plan, final int total,
+                                                  final BatchTask task, final Supplier<T> result) {
+        // Cancelling a dependent future does not reach the futures it depends on, so the batches are
+        // cancelled from the future handed to the caller
+        final CompletableFuture<T> completion = new CompletableFuture<>();
+        final BatchTask cancellableTask = (from, to) -> {
+            for (int start = from; start < to && !completion.isDone(); start += CANCELLATION_CHECK_INTERVAL) {
+                task.process(start, Math.min(to, start + CANCELLATION_CHECK_INTERVAL));
             }
+        };
+        final Executor executor = plan.mode() == RangeExecutionMode.VIRTUAL_THREADS
+                ? VIRTUAL_THREADS
+                : planner.getPool();
+        final CompletableFuture<?>[] batchFutures = new CompletableFuture<?>[plan.numBatches()];
+        for (int batchIndex = 0; batchIndex < plan.numBatches(); batchIndex++) {
+            final int currentBatchIndex = batchIndex;
+            batchFutures[batchIndex] = CompletableFuture.runAsync(
+                    () -> processBatch(currentBatchIndex, plan.batchSize(), total, cancellableTask),
+                    executor
+            );
         }
 
-        return romanNumber.toString();
+        CompletableFuture.allOf(batchFutures).whenComplete((ignored, failure) -> {
+            if (failure == null) {
+                completion.complete(result.get());
+            } else {
+                completion.completeExceptionally(failure);
+            }
+        });
+        completion.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                log.debug("Cancelling the batches of an asynchronous execution: {}", failure.toString());
+                for (final CompletableFuture<?> batchFuture : batchFutures) {
+                    batchFuture.cancel(false);
+                }
+            }
+        });
+        return rangeTimeoutMillis > 0 ? completion.orTimeout(rangeTimeoutMillis, TimeUnit.MILLISECONDS) : completion;
+    }
+
+    /**
+     * Processes one batch of a planned execution.
+     *
+     * @param batchIndex The index of the current batch.
+     * @param batchSize  The size of each batch.
+     * @param total      The number of indices of the whole execution.
+     * @param task       The work to run on the indices of the batch.
+     */
+    private void processBatch(final int batchIndex, final int batchSize, final int total, final BatchTask task) {
+        final int start = batchIndex * batchSize;
+        final int end = Math.min(start + batchSize, total);
+        log.debug("Processing batch {} from index {} to {}", batchIndex, start, end - 1);
+        final long startNanos = System.nanoTime();
+        task.process(start, end);
+        metrics.recordBatch(System.nanoTime() - startNanos);
     }
 }
@@ -0,0 +1,166 @@
+package com.alex.aem.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Formats standard Roman numerals (1 to 3999) straight into caller-supplied buffers, without creating a String.
+ * A numeral is the concatenation of two pre-encoded fragments of at most 8 ASCII letters, one for the thousands
+ * and hundreds (e.g. MMMDCCC) and one for the tens and units (e.g. LXXXVIII), each packed into a {@code long}.
+ * When the buffer has room for two full words past the offset, each fragment is written with a single 8-byte store
+ * and the next fragment overwrites the unused tail; otherwise the letters are written one at a time.
+ * Byte destinations are therefore used as scratch space: bytes after the numeral, up to {@value #WORD_SLACK} bytes
+ * past the offset, may be overwritten, which suits writers appending to a buffer.
+ */
+public final class RomanNumeralEncoder {
+
+    /**
+     * Length of the longest numeral, MMMDCCCLXXXVIII.
+     */
+    public static final int MAX_LENGTH = 15;
+
+    /**
+     * Bytes past the offset that may be overwritten when writing to a byte destination.
+     */
+    public static final int WORD_SLACK = 2 * Long.BYTES;
+
+    private static final String[] THOUSANDS = {"", "M", "MM", "MMM"};
+    private static final String[] HUNDREDS = {"", "C", "CC", "CCC", "CD", "D", "DC", "DCC", "DCCC", "CM"};
+    private static final String[] TENS = {"", "X", "XX", "XXX", "XL", "L", "LX", "LXX", "LXXX", "XC"};
+    private static final String[] UNITS = {"", "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX"};
+
+    private static final VarHandle BYTES_AS_LONG =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_AS_LONG =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // Indexed by number / 100 and number % 100, little endian so the first letter is the lowest byte
+    private static final long[] HIGH = new long[40];
+    private static final long[] LOW = new long[100];
+    private static final int[] HIGH_LENGTH = new int[HIGH.length];
+    private static final int[] LOW_LENGTH = new int[LOW.length];
+
+    static {
+        for (int i = 0; i < HIGH.length; i++) {
+            final String fragment = THOUSANDS[i / 10] + HUNDREDS[i % 10];
+            HIGH[i] = pack(fragment);
+            HIGH_LENGTH[i] = fragment.length();
+        }
+        for (int i = 0; i < LOW.length; i++) {
+            final String fragment = TENS[i / 10] + UNITS[i % 10];
+            LOW[i] = pack(fragment);
+            LOW_LENGTH[i] = fragment.length();
+        }
+    }
+
+    private RomanNumeralEncoder() {
+    }
+
+    /**
+     * @param number A validated number, 1 to 3999.
+     * @return The number of letters of its numeral.
+     */
+    public static int length(final int number) {
+        return HIGH_LENGTH[number / 100] + LOW_LENGTH[number % 100];
+    }
+
+    /**
+     * Writes the ASCII (and therefore UTF-8) numeral of a validated number.
+     * Bytes after the numeral, up to {@link #WORD_SLACK} bytes past the offset, may be overwritten.
+     *
+     * @param number      A validated number, 1 to 3999.
+     * @param destination The buffer to write to.
+     * @param offset      The index of the first letter.
+     * @return The number of bytes written.
+     * @throws IndexOutOfBoundsException if the numeral does not fit, in which case the buffer may be partly written.
+     */
+    public static int encode(final int number, final byte[] destination, final int offset) {
+        final int high = number / 100;
+        final int low = number - high * 100;
+        final int highLength = HIGH_LENGTH[high];
+        final int length = highLength + LOW_LENGTH[low];
+        if (destination.length - offset >= WORD_SLACK) {
+            BYTES_AS_LONG.set(destination, offset, HIGH[high]);
+            BYTES_AS_LONG.set(destination, offset + highLength, LOW[low]);
+            return length;
+        }
+        int position = offset;
+        for (int i = 0; i < highLength; i++) {
+            destination[position++] = (byte) (HIGH[high] >>> 8 * i);
+        }
+        for (int i = 0; i < LOW_LENGTH[low]; i++) {
+            destination[position++] = (byte) (LOW[low] >>> 8 * i);
+        }
+        return length;
+    }
+
+    /**
+     * Writes the ASCII (and therefore UTF-8) numeral of a validated number at the position of the buffer,
+     * and advances the position past it. Bytes past the numeral are only overwritten within the limit.
+     *
+     * @param number      A validated number, 1 to 3999.
+     * @param destination The buffer to write to, heap or direct.
+     * @return The number of bytes written.
+     * @throws BufferOverflowException if the numeral does not fit in the remaining bytes.
+     */
+    public static int encode(final int number, final ByteBuffer destination) {
+        final int length = length(number);
+        if (destination.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        final int position = destination.position();
+        if (destination.limit() - position >= WORD_SLACK) {
+            if (destination.hasArray()) {
+                encode(number, destination.array(), destination.arrayOffset() + position);
+            } else {
+                final int high = number / 100;
+                BUFFER_AS_LONG.set(destination, position, HIGH[high]);
+                BUFFER_AS_LONG.set(destination, position + HIGH_LENGTH[high], LOW[number - high * 100]);
+            }
+        } else {
+            final int high = number / 100;
+            final int low = number - high * 100;
+            for (int i = 0; i < HIGH_LENGTH[high]; i++) {
+                destination.put(position + i, (byte) (HIGH[high] >>> 8 * i));
+            }
+            for (int i = 0; i < LOW_LENGTH[low]; i++) {
+                destination.put(position + HIGH_LENGTH[high] + i, (byte) (LOW[low] >>> 8 * i));
+            }
+        }
+        destination.position(position + length);
+        return length;
+    }
+
+    /**
+     * Writes the numeral of a validated number as chars.
+     *
+     * @param number      A validated number, 1 to 3999.
+     * @param destination The buffer to write to.
+     * @param offset      The index of the first letter.
+     * @return The number of chars written.
+     * @throws IndexOutOfBoundsException if the numeral does not fit, in which case the buffer may be partly written.
+     */
+    public static int encode(final int number, final char[] destination, final int offset) {
+        final int high = number / 100;
+        final int low = number - high * 100;
+        int position = offset;
+        for (int i = 0; i < HIGH_LENGTH[high]; i++) {
+            destination[position++] = (char) (HIGH[high] >>> 8 * i & 0xFF);
+        }
+        for (int i = 0; i < LOW_LENGTH[low]; i++) {
+            destination[position++] = (char) (LOW[low] >>> 8 * i & 0xFF);
+        }
+        return position - offset;
+    }
+
+    private static long pack(final String fragment) {
+        long packed = 0;
+        for (int i = 0; i < fragment.length(); i++) {
+            packed |= (long) fragment.charAt(i) << 8 * i;
+        }
+        return packed;
+    }
+}
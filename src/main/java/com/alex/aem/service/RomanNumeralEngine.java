@@ -0,0 +1,40 @@
+package com.alex.aem.service;
+
+import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.data.RomanNumeralRange;
+
+/**
+ * Low-level strategy that turns an already validated integer into its Roman numeral representation.
+ * The active implementation is selected with the {@code roman.converter.engine} property.
+ */
+public interface RomanNumeralEngine {
+
+    /**
+     * Converts a validated number (1 to 3999) to its Roman numeral representation.
+     *
+     * @param number The input Arabic numeral
+     * @return The Roman representation of the input Arabic numeral
+     */
+    String convert(final int number);
+
+    /**
+     * Builds the conversion result for a validated number.
+     *
+     * @param number The input Arabic numeral
+     * @return A RomanNumeralData object containing the input and its Roman numeral representation
+     */
+    default RomanNumeralData toData(final int number) {
+        return new RomanNumeralData(Integer.toString(number), convert(number));
+    }
+
+    /**
+     * Returns the conversions of a validated range without computing them, when the engine already holds them.
+     *
+     * @param min The lower bound of the range (inclusive).
+     * @param max The upper bound of the range (inclusive).
+     * @return The range backed by the tables of the engine, or null when the numerals have to be computed.
+     */
+    default RomanNumeralRange precomputedRange(final int min, final int max) {
+        return null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.alex.aem.service;
+
+/**
+ * Single-pass, allocation-free parser for canonical Roman numerals (I to MMMCMXCIX).
+ * The numeral is read as thousands, hundreds, tens and units, each digit only in its canonical form,
+ * so the parse itself is the validity check: anything that is not exactly the output of the converter is rejected.
+ */
+public final class RomanNumeralParser {
+
+    /**
+     * Returned when the input is not a canonical Roman numeral.
+     */
+    public static final int INVALID = -1;
+
+    private RomanNumeralParser() {
+    }
+
+    /**
+     * Parses a canonical Roman numeral.
+     *
+     * @param numeral The numeral to parse, in upper case.
+     * @return The value of the numeral, or {@link #INVALID} if it is not a canonical Roman numeral.
+     */
+    public static int parse(final CharSequence numeral) {
+        return parse(numeral, 0, numeral.length());
+    }
+
+    /**
+     * Parses the canonical Roman numeral spanning {@code [from, to)} of the given characters.
+     *
+     * @param chars The characters holding the numeral.
+     * @param from  The index of the first character of the numeral.
+     * @param to    The index after the last character of the numeral.
+     * @return The value of the numeral, or {@link #INVALID} if it is not a canonical Roman numeral.
+     */
+    public static int parse(final CharSequence chars, final int from, final int to) {
+        int position = from;
+        int thousands = 0;
+        while (position < to && thousands < 3 && chars.charAt(position) == 'M') {
+            thousands++;
+            position++;
+        }
+        int value = thousands * 1000;
+
+        // Each digit is encoded as (value << 8 | characters consumed)
+        int digit = digit(chars, position, to, 'C', 'D', 'M');
+        value += (digit >>> 8) * 100;
+        position += digit & 0xFF;
+
+        digit = digit(chars, position, to, 'X', 'L', 'C');
+        value += (digit >>> 8) * 10;
+        position += digit & 0xFF;
+
+        digit = digit(chars, position, to, 'I', 'V', 'X');
+        value += digit >>> 8;
+        position += digit & 0xFF;
+
+        return position == to && value > 0 ? value : INVALID;
+    }
+
+    /**
+     * Reads one decimal digit written with the given one, five and ten letters.
+     *
+     * @return The digit value shifted left by 8, combined with the number of characters consumed.
+     */
+    private static int digit(final CharSequence chars, final int from, final int to,
+                             final char one, final char five, final char ten) {
+        if (from >= to) {
+            return 0;
+        }
+        final char first = chars.charAt(from);
+        if (first == one) {
+            if (from + 1 < to) {
+                final char second = chars.charAt(from + 1);
+                if (second == ten) {
+                    return 9 << 8 | 2;
+                }
+                if (second == five) {
+                    return 4 << 8 | 2;
+                }
+            }
+            final int ones = countOnes(chars, from, to, one);
+            return ones << 8 | ones;
+        }
+        if (first == five) {
+            final int ones = countOnes(chars, from + 1, to, one);
+            return (5 + ones) << 8 | (1 + ones);
+        }
+        return 0;
+    }
+
+    private static int countOnes(final CharSequence chars, final int from, final int to, final char one) {
+        int count = 0;
+        while (from + count < to && count < 3 && chars.charAt(from + count) == one) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,302 @@
+package com.alex.aem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Finds the Roman numerals of a text in one linear pass over its bytes, validates them against the numerals of
+ * the active engine and recovers the value of non-canonical ones, e.g. {@code IIII} or {@code VX}.
+ * <p>
+ * The text is read as bytes of an ASCII compatible encoding such as UTF-8: Roman letters are ASCII, and bytes of
+ * multi-byte characters are never taken for one. A candidate is a run of Roman letters between ASCII characters
+ * that are neither letters, digits nor underscores, or the ends of the text; runs within a word, such as in
+ * {@code LIVIDLY}, {@code XI2} or {@code MÉDICO}, are skipped. Each letter of a candidate advances
+ * <ul>
+ *     <li>a {@link RomanNumeralAutomaton} built from the engine numerals, which tells whether it is canonical;</li>
+ *     <li>an additive reading of its groups of letters, a run of one letter or a smaller letter before a larger one,
+ *     each group worth less than the unit of the group before it, which gives its value.</li>
+ * </ul>
+ * A smaller letter is only subtracted from the next two letters when it is a one, as in {@code IX}, or from the next
+ * letter when it is a five, as in {@code VX}, and each five is used once, so that words such as {@code DID},
+ * {@code MID}, {@code VIV} or {@code IM} are not read as numerals.
+ * <p>
+ * Lower case is only accepted when asked for, and then only for canonical numerals such as {@code mcmxciv}: ordinary
+ * words like {@code did} or {@code mid} also read additively, and are not reported.
+ * <p>
+ * Matches are handed to a {@link MatchConsumer} as primitives and the bytes of a reused buffer, so scanning
+ * allocates nothing per match and texts of any size can be streamed.
+ */
+@Component
+public class RomanNumeralScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(RomanNumeralScanner.class);
+
+    /**
+     * Longest candidate read; longer runs of Roman letters are not numerals.
+     */
+    static final int MAX_NUMERAL_LENGTH = 32;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final int[] LETTER_VALUES = {1, 5, 10, 50, 100, 500, 1000};
+
+    // Byte classes: the index of a Roman letter, flagged when in lower case, or one of the other classes
+    private static final byte LOWER_CASE_FLAG = 8;
+    private static final byte SEPARATOR = 16;
+    private static final byte WORD = 17;
+
+    private static final byte[] CLASSES = classes(false);
+    private static final byte[] CLASSES_IGNORING_CASE = classes(true);
+
+    /**
+     * How a numeral found in a text is written.
+     */
+    public enum Form {
+        /**
+         * Exactly the numeral written by the converter.
+         */
+        CANONICAL,
+        /**
+         * The letters of the canonical numeral, some or all in lower case.
+         */
+        LOWER_CASE,
+        /**
+         * Other upper case letters with a value from 1 to 3999, e.g. {@code IIII} or {@code VX}.
+         */
+        NON_CANONICAL
+    }
+
+    /**
+     * Receives one numeral found in a text.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+        /**
+         * @param position The offset of the first byte of the numeral in the text.
+         * @param numeral  A buffer holding the letters of the numeral as ASCII bytes, only valid during the call.
+         * @param length   The number of letters of the numeral.
+         * @param value    The value of the numeral, from 1 to 3999.
+         * @param form     How the numeral is written; its canonical form is the numeral of its value.
+         * @throws IOException if the consumer cannot write the match.
+         */
+        void accept(long position, byte[] numeral, int length, int value, Form form) throws IOException;
+    }
+
+    private final RomanNumeralAutomaton automaton;
+
+    public RomanNumeralScanner(final RomanNumeralEngine engine) {
+        this.automaton = RomanNumeralAutomaton.of(engine::convert, LookupTableRomanNumeralEngine.MAX_NUMBER);
+        log.debug("Built the automaton of canonical Roman numerals with {} states", automaton.size());
+    }
+
+    /**
+     * Scans a text read from a stream, which is read to its end but not closed.
+     *
+     * @param text       The text, in an ASCII compatible encoding.
+     * @param ignoreCase Whether canonical numerals may be written in lower case.
+     * @param consumer   Receives the numerals in the order of the text.
+     * @return The number of bytes scanned.
+     * @throws IOException if the text cannot be read or the consumer fails.
+     */
+    public long scan(final InputStream text, final boolean ignoreCase, final MatchConsumer consumer)
+            throws IOException {
+        final Scan scan = new Scan(ignoreCase, consumer);
+        final byte[] buffer = new byte[READ_BUFFER_SIZE];
+        long position = 0;
+        int read;
+        while ((read = text.read(buffer)) >= 0) {
+            scan.feed(buffer, read, position);
+            position += read;
+        }
+        scan.finish();
+        return position;
+    }
+
+    /**
+     * Scans a text held in memory.
+     *
+     * @param text       The text, in an ASCII compatible encoding.
+     * @param ignoreCase Whether canonical numerals may be written in lower case.
+     * @param consumer   Receives the numerals in the order of the text.
+     * @throws IOException if the consumer fails.
+     */
+    public void scan(final byte[] text, final boolean ignoreCase, final MatchConsumer consumer) throws IOException {
+        final Scan scan = new Scan(ignoreCase, consumer);
+        scan.feed(text, text.length, 0);
+        scan.finish();
+    }
+
+    private static byte[] classes(final boolean ignoreCase) {
+        final byte[] classes = new byte[256];
+        for (int b = 0; b < classes.length; b++) {
+            final boolean word = b >= 0x80 || Character.isLetterOrDigit(b) || b == '_';
+            classes[b] = word ? WORD : SEPARATOR;
+        }
+        for (int letter = 0; letter < RomanNumeralAutomaton.LETTERS; letter++) {
+            final char upper = RomanNumeralAutomaton.ROMAN_LETTERS.charAt(letter);
+            classes[upper] = (byte) letter;
+            if (ignoreCase) {
+                classes[Character.toLowerCase(upper)] = (byte) (letter | LOWER_CASE_FLAG);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * State of one scan, carried from one chunk of the text to the next so numerals may span chunks.
+     */
+    private final class Scan {
+
+        private final byte[] classes;
+        private final MatchConsumer consumer;
+        private final byte[] numeral = new byte[MAX_NUMERAL_LENGTH];
+
+        // Candidate being read: its length, 0 between candidates, and whether the rest of a word is skipped
+        private int length;
+        private boolean skippingWord;
+        private long position;
+        private int state;
+        private boolean lowerCase;
+
+        // Additive reading: the pending run of one letter, the fives used, the bound of the next group and the total
+        private boolean valid;
+        private int runLetter;
+        private int runValue;
+        private int runCount;
+        private int fives;
+        private int limit;
+        private int total;
+
+        private Scan(final boolean ignoreCase, final MatchConsumer consumer) {
+            this.classes = ignoreCase ? CLASSES_IGNORING_CASE : CLASSES;
+            this.consumer = consumer;
+        }
+
+        private void feed(final byte[] bytes, final int count, final long offset) throws IOException {
+            for (int i = 0; i < count; i++) {
+                final byte type = classes[bytes[i] & 0xFF];
+                if (type == SEPARATOR) {
+                    if (length > 0) {
+                        emit();
+                    }
+                    skippingWord = false;
+                } else if (skippingWord) {
+                    continue;
+                } else if (type == WORD || length == MAX_NUMERAL_LENGTH) {
+                    length = 0;
+                    skippingWord = true;
+                } else {
+                    if (length == 0) {
+                        begin(offset + i);
+                    }
+                    numeral[length++] = bytes[i];
+                    read(type);
+                }
+            }
+        }
+
+        private void finish() throws IOException {
+            if (length > 0) {
+                emit();
+            }
+        }
+
+        private void begin(final long start) {
+            position = start;
+            state = automaton.start();
+            lowerCase = false;
+            valid = true;
+            runValue = 0;
+            runCount = 0;
+            fives = 0;
+            limit = Integer.MAX_VALUE;
+            total = 0;
+        }
+
+        private void read(final byte type) {
+            final int letter = type & (LOWER_CASE_FLAG - 1);
+            lowerCase |= (type & LOWER_CASE_FLAG) != 0;
+            state = automaton.next(state, letter);
+            if (!valid) {
+                return;
+            }
+            final int value = LETTER_VALUES[letter];
+            if (isFive(letter)) {
+                // A single V, L or D in a numeral: VV and VIV are not numerals
+                valid = (fives & (1 << letter)) == 0;
+                fives |= 1 << letter;
+                if (!valid) {
+                    return;
+                }
+            }
+            if (runCount == 0) {
+                startRun(letter);
+            } else if (value == runValue) {
+                // At most four ones (IIII) in a run
+                valid = ++runCount <= 4;
+            } else if (value > runValue) {
+                // A smaller letter before a larger one is subtracted from it, alone: IX but not IIX, nor IM or ID
+                valid = runCount == 1 && isSubtractive(runLetter, letter) && addGroup(value - runValue, runValue);
+                runCount = 0;
+            } else {
+                valid = addGroup(runCount * runValue, runValue);
+                startRun(letter);
+            }
+        }
+
+        private void startRun(final int letter) {
+            runLetter = letter;
+            runValue = LETTER_VALUES[letter];
+            runCount = 1;
+        }
+
+        /**
+         * Adds a group worth less than the unit of the previous group, the unit of the group becoming the next limit.
+         */
+        private boolean addGroup(final int value, final int unit) {
+            if (value >= limit) {
+                return false;
+            }
+            total += value;
+            limit = unit;
+            return true;
+        }
+
+        private void emit() throws IOException {
+            final int candidateLength = length;
+            length = 0;
+            if (!valid || (runCount > 0 && !addGroup(runCount * runValue, runValue))
+                    || total > LookupTableRomanNumeralEngine.MAX_NUMBER) {
+                return;
+            }
+            final boolean canonical = automaton.accepts(state);
+            if (!canonical && lowerCase) {
+                return;
+            }
+            final Form form = !canonical ? Form.NON_CANONICAL
+                    : lowerCase ? Form.LOWER_CASE
+                    : Form.CANONICAL;
+            consumer.accept(position, numeral, candidateLength, total, form);
+        }
+    }
+
+    /**
+     * @return Whether the smaller letter may be subtracted from the larger one: a one from the next five or ten,
+     * as in {@code IV} or {@code IX}, or a five from the next ten, as in {@code VX}.
+     */
+    private static boolean isSubtractive(final int smaller, final int larger) {
+        final int distance = larger - smaller;
+        return distance == 1 || (distance == 2 && !isFive(smaller));
+    }
+
+    /**
+     * @return Whether the letter is V, L or D, whose indices are odd.
+     */
+    private static boolean isFive(final int letter) {
+        return (letter & 1) == 1;
+    }
+}
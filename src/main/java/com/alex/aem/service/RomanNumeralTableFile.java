@@ -0,0 +1,242 @@
+package com.alex.aem.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Conversion table stored in a file and memory-mapped read-only, so the numerals live outside the heap and every
+ * process mapping the same file shares its pages in the page cache.
+ * <p>
+ * Layout, little endian:
+ * <ul>
+ *     <li>header of {@value #HEADER_BYTES} bytes: the magic {@code ROMN}, the format version, the largest number,
+ *     the size of the numeral bytes, the CRC32 of everything after the header and 8 reserved bytes;</li>
+ *     <li>{@code maxNumber + 2} int offsets into the numeral bytes, the numeral of {@code n} spanning
+ *     {@code offsets[n]} to {@code offsets[n + 1]};</li>
+ *     <li>the numerals, packed back to back in UTF-8: ASCII up to 3999, overlined thousands in vinculum notation
+ *     above.</li>
+ * </ul>
+ * Files are validated when opened and written to a temporary file moved into place, so a process never maps
+ * a partly written table.
+ */
+public final class RomanNumeralTableFile {
+
+    /**
+     * Version of the layout, increased on every incompatible change.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    static final int HEADER_BYTES = 32;
+
+    private static final int MAGIC = 'R' | 'O' << 8 | 'M' << 16 | 'N' << 24;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int maxNumber;
+    private final int dataStart;
+
+    private RomanNumeralTableFile(final Path file, final MappedByteBuffer buffer, final int maxNumber) {
+        this.file = file;
+        this.buffer = buffer;
+        this.maxNumber = maxNumber;
+        this.dataStart = dataStart(maxNumber);
+    }
+
+    /**
+     * Writes the table of 1 to {@code maxNumber}, replacing the file atomically if it exists.
+     *
+     * @param file      The file to write.
+     * @param maxNumber The largest number of the table.
+     * @param numerals  The numeral of each number, from 1 to {@code maxNumber}.
+     * @throws IOException              if the file cannot be written.
+     * @throws IllegalArgumentException if the largest number is outside the vinculum notation.
+     */
+    public static void write(final Path file, final int maxNumber, final IntFunction<String> numerals)
+            throws IOException {
+        if (maxNumber < 1 || maxNumber > RomanNotation.VINCULUM.getMaxValue()) {
+            throw new IllegalArgumentException("The largest number of a table must be between 1 and "
+                    + RomanNotation.VINCULUM.getMaxValue());
+        }
+        final Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                final int[] offsets = new int[maxNumber + 2];
+                long dataBytes = 0;
+                channel.position(dataStart(maxNumber));
+                final OutputStream out =
+                        new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_BYTES);
+                for (int number = 1; number <= maxNumber; number++) {
+                    final byte[] numeral = numerals.apply(number).getBytes(StandardCharsets.UTF_8);
+                    out.write(numeral);
+                    dataBytes += numeral.length;
+                    if (dataBytes > Integer.MAX_VALUE - dataStart(maxNumber)) {
+                        throw new IOException("Roman numeral table up to " + maxNumber + " exceeds 2 GiB");
+                    }
+                    offsets[number + 1] = (int) dataBytes;
+                }
+                out.flush();
+
+                final ByteBuffer offsetBytes =
+                        ByteBuffer.allocate(4 * offsets.length).order(ByteOrder.LITTLE_ENDIAN);
+                offsetBytes.asIntBuffer().put(offsets);
+                writeFully(channel, offsetBytes, HEADER_BYTES);
+
+                final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                        .putInt(MAGIC)
+                        .putInt(FORMAT_VERSION)
+                        .putInt(maxNumber)
+                        .putInt((int) dataBytes)
+                        .putLong(checksum(channel))
+                        .putLong(0)
+                        .flip();
+                writeFully(channel, header, 0);
+                channel.force(true);
+            }
+            makeReadable(temporary);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps a table file and validates its header, size, offsets and checksum.
+     *
+     * @param file The table file.
+     * @return The mapped table.
+     * @throws IOException if the file cannot be read or is not a valid table of this format version.
+     */
+    public static RomanNumeralTableFile open(final Path file) throws IOException {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw invalid(file, "unexpected size " + channel.size());
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw invalid(file, "not a Roman numeral table");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw invalid(file, "format version " + buffer.getInt(4) + ", expected " + FORMAT_VERSION);
+        }
+        final int maxNumber = buffer.getInt(8);
+        final int dataBytes = buffer.getInt(12);
+        if (maxNumber < 1 || maxNumber > RomanNotation.VINCULUM.getMaxValue() || dataBytes < 0
+                || (long) dataStart(maxNumber) + dataBytes != buffer.capacity()) {
+            throw invalid(file, "header does not match the file size");
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_BYTES, buffer.capacity() - HEADER_BYTES));
+        if (crc.getValue() != buffer.getLong(16)) {
+            throw invalid(file, "checksum mismatch");
+        }
+        int previous = 0;
+        for (int number = 1; number <= maxNumber + 1; number++) {
+            final int offset = buffer.getInt(HEADER_BYTES + 4 * number);
+            if (offset < previous || offset > dataBytes) {
+                throw invalid(file, "offset of " + number + " out of order");
+            }
+            previous = offset;
+        }
+        return new RomanNumeralTableFile(file, buffer, maxNumber);
+    }
+
+    /**
+     * @return The file the table is mapped from.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return The largest number of the table.
+     */
+    public int getMaxNumber() {
+        return maxNumber;
+    }
+
+    /**
+     * @return The size of the mapped file, outside the heap.
+     */
+    public long getMappedBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * @param number A number from 1 to {@link #getMaxNumber()}.
+     * @return The numeral of the number, read from the mapped file.
+     */
+    public String numeral(final int number) {
+        final int start = offset(number);
+        final byte[] numeral = new byte[offset(number + 1) - start];
+        buffer.get(dataStart + start, numeral);
+        return new String(numeral, StandardCharsets.UTF_8);
+    }
+
+    private int offset(final int number) {
+        return buffer.getInt(HEADER_BYTES + 4 * number);
+    }
+
+    private static int dataStart(final int maxNumber) {
+        return HEADER_BYTES + 4 * (maxNumber + 2);
+    }
+
+    /**
+     * @return The CRC32 of everything after the header, read back from the written file.
+     */
+    private static long checksum(final FileChannel channel) throws IOException {
+        final CRC32 crc = new CRC32();
+        final ByteBuffer chunk = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+        long position = HEADER_BYTES;
+        int read;
+        while ((read = channel.read(chunk.clear(), position)) > 0) {
+            crc.update(chunk.flip());
+            position += read;
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Temporary files are private to their owner, while the table is shared by every instance of the host.
+     */
+    private static void makeReadable(final Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r--r--"));
+        } catch (final UnsupportedOperationException e) {
+            // Not a POSIX file system, the file keeps the default permissions of its directory
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer bytes, final long position)
+            throws IOException {
+        long at = position;
+        while (bytes.hasRemaining()) {
+            at += channel.write(bytes, at);
+        }
+    }
+
+    private static IOException invalid(final Path file, final String reason) {
+        return new IOException("Invalid Roman numeral table " + file + ": " + reason);
+    }
+}
@@ -0,0 +1,63 @@
+package com.alex.aem.service;
+
+import com.alex.aem.data.RomanNumeralData;
+import org.springframework.stereotype.Component;
+
+/**
+ * Formats numbers up to 3,999,999 in vinculum notation on top of the active engine.
+ * The overlined numerals of the thousands are precomputed once, so a conversion costs two table lookups
+ * and one concatenation. Numbers held by a {@link MappedTableRomanNumeralEngine} table are read from it instead.
+ */
+@Component
+public class VinculumRomanNumeralFormatter {
+
+    private static final char COMBINING_OVERLINE = '\u0305';
+
+    private final RomanNumeralEngine engine;
+    private final String[] overlined = new String[LookupTableRomanNumeralEngine.MAX_NUMBER + 1];
+    private final int engineMaxNumber;
+
+    public VinculumRomanNumeralFormatter(final RomanNumeralEngine engine) {
+        this.engine = engine;
+        this.engineMaxNumber = engine instanceof MappedTableRomanNumeralEngine mapped
+                ? mapped.getMaxNumber()
+                : LookupTableRomanNumeralEngine.MAX_NUMBER;
+        for (int number = 1; number <= LookupTableRomanNumeralEngine.MAX_NUMBER; number++) {
+            final String numeral = engine.convert(number);
+            final StringBuilder builder = new StringBuilder(numeral.length() * 2);
+            for (int i = 0; i < numeral.length(); i++) {
+                builder.append(numeral.charAt(i)).append(COMBINING_OVERLINE);
+            }
+            overlined[number] = builder.toString();
+        }
+    }
+
+    /**
+     * Converts a validated number (1 to 3,999,999) to vinculum notation.
+     * Numbers below 4000 are written in standard notation.
+     *
+     * @param number The input Arabic numeral
+     * @return The Roman representation of the input Arabic numeral
+     */
+    public String convert(final int number) {
+        if (number <= engineMaxNumber) {
+            return engine.convert(number);
+        }
+        final int remainder = number % 1000;
+        final String thousands = overlined[number / 1000];
+        return remainder == 0 ? thousands : thousands.concat(engine.convert(remainder));
+    }
+
+    /**
+     * Builds the conversion result for a validated number.
+     *
+     * @param number The input Arabic numeral
+     * @return A RomanNumeralData object containing the input and its Roman numeral representation
+     */
+    public RomanNumeralData toData(final int number) {
+        if (number <= LookupTableRomanNumeralEngine.MAX_NUMBER) {
+            return engine.toData(number);
+        }
+        return new RomanNumeralData(Integer.toString(number), convert(number));
+    }
+}
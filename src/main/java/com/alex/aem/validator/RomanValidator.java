@@ -3,6 +3,7 @@ package com.alex.aem.validator;
 import com.alex.aem.exception.RomanNumeralConversionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -13,6 +14,28 @@ public class RomanValidator {
 
     private static final Logger log = LoggerFactory.getLogger(RomanValidator.class);
 
+    private static final String ROMAN_LETTERS = "IVXLCDM";
+    private static final int MAX_NUMERAL_LENGTH = 15;
+    private static final int MAX_STANDARD_NUMBER = 3999;
+
+    /**
+     * Maximum number of items accepted in one batch conversion.
+     */
+    @Value("${roman.converter.batch.max-items:100000}")
+    private int maxBatchItems = 100_000;
+
+    /**
+     * Maximum number of conversions returned at once by a non-streamed range conversion.
+     */
+    @Value("${roman.converter.range.max-size:100000}")
+    private int maxRangeSize = 100_000;
+
+    /**
+     * Maximum number of conversions of one page of a paged range conversion.
+     */
+    @Value("${roman.converter.range.max-page-size:10000}")
+    private int maxPageSize = 10_000;
+
     /**
      * Validates the input range for Roman numeral conversion.
      *
@@ -21,13 +44,130 @@ public class RomanValidator {
      * @throws RomanNumeralConversionException if the input is invalid.
      */
     public void validateInput(final int min, final int max) {
+        validateInput(min, max, MAX_STANDARD_NUMBER);
+    }
+
+    /**
+     * Validates the input range for Roman numeral conversion in a notation reaching up to {@code maxValue}.
+     *
+     * @param min      The minimum value of the range.
+     * @param max      The maximum value of the range.
+     * @param maxValue The largest number the notation can write.
+     * @throws RomanNumeralConversionException if the input is invalid.
+     */
+    public void validateInput(final int min, final int max, final int maxValue) {
         if (min > max) {
-            log.error("Invalid range: min ({}) is greater than max ({})", min, max);
+            log.debug("Invalid range: min ({}) is greater than max ({})", min, max);
             throw new RomanNumeralConversionException("Min must be less than or equal to max", "INVALID_RANGE");
         }
-        if (min < 1 || max > 3999) {
-            log.error("Out of range: min={}, max={}", min, max);
-            throw new RomanNumeralConversionException("Numbers must be between 1 and 3999", "OUT_OF_RANGE");
+        if (min < 1 || max > maxValue) {
+            log.debug("Out of range: min={}, max={}", min, max);
+            throw new RomanNumeralConversionException("Numbers must be between 1 and " + maxValue, "OUT_OF_RANGE");
+        }
+    }
+
+    /**
+     * Validates the size of a range whose conversions are returned at once.
+     * Larger ranges must be streamed.
+     *
+     * @param min The minimum value of the range.
+     * @param max The maximum value of the range.
+     * @throws RomanNumeralConversionException if the range is too large.
+     */
+    public void validateRangeSize(final int min, final int max) {
+        if ((long) max - min + 1 > maxRangeSize) {
+            log.debug("Range too large: min={}, max={}, maximum size is {}", min, max, maxRangeSize);
+            throw new RomanNumeralConversionException(
+                    "Ranges must not exceed " + maxRangeSize + " numbers, use stream=true for larger ranges",
+                    "RANGE_TOO_LARGE");
+        }
+    }
+
+    /**
+     * Validates the range a client already holds, whose conversions are not sent again.
+     *
+     * @param heldMin The minimum value of the held range.
+     * @param heldMax The maximum value of the held range.
+     * @throws RomanNumeralConversionException if the held range is inverted.
+     */
+    public void validateHeldRange(final int heldMin, final int heldMax) {
+        if (heldMin > heldMax) {
+            log.debug("Invalid held range: heldMin ({}) is greater than heldMax ({})", heldMin, heldMax);
+            throw new RomanNumeralConversionException("heldMin must be less than or equal to heldMax",
+                    "INVALID_HELD_RANGE");
+        }
+    }
+
+    /**
+     * Validates the number of conversions missing from a held range, which are returned at once.
+     *
+     * @param size The number of conversions of the delta.
+     * @throws RomanNumeralConversionException if the delta is too large.
+     */
+    public void validateDeltaSize(final long size) {
+        if (size > maxRangeSize) {
+            log.debug("Range delta too large: {} numbers, maximum size is {}", size, maxRangeSize);
+            throw new RomanNumeralConversionException(
+                    "Range deltas must not exceed " + maxRangeSize + " numbers, use stream=true for larger ranges",
+                    "RANGE_TOO_LARGE");
+        }
+    }
+
+    /**
+     * Validates the position and size of a page of a range.
+     *
+     * @param offset The index of the first conversion of the page within the range.
+     * @param limit  The maximum number of conversions of the page.
+     * @throws RomanNumeralConversionException if the offset is negative or the limit out of bounds.
+     */
+    public void validatePage(final int offset, final int limit) {
+        if (offset < 0) {
+            log.debug("Negative page offset: {}", offset);
+            throw new RomanNumeralConversionException("Offset must not be negative", "INVALID_OFFSET");
+        }
+        if (limit < 1 || limit > maxPageSize) {
+            log.debug("Page limit out of bounds: {}, maximum is {}", limit, maxPageSize);
+            throw new RomanNumeralConversionException("Limit must be between 1 and " + maxPageSize, "INVALID_LIMIT");
+        }
+    }
+
+    /**
+     * Validates the shape of a Roman numeral before parsing: it must be present, no longer than the longest
+     * canonical numeral (MMMDCCCLXXXVIII) and made of upper case Roman letters only.
+     *
+     * @param numeral The Roman numeral to validate.
+     * @throws RomanNumeralConversionException if the input is invalid.
+     */
+    public void validateNumeral(final String numeral) {
+        if (numeral == null || numeral.isEmpty()) {
+            log.debug("Missing Roman numeral");
+            throw new RomanNumeralConversionException("A Roman numeral must be provided", "MISSING_NUMERAL");
+        }
+        if (numeral.length() > MAX_NUMERAL_LENGTH) {
+            log.debug("Roman numeral too long: {} characters", numeral.length());
+            throw new RomanNumeralConversionException(
+                    "Roman numerals must not exceed " + MAX_NUMERAL_LENGTH + " characters", "INVALID_NUMERAL");
+        }
+        for (int i = 0; i < numeral.length(); i++) {
+            if (ROMAN_LETTERS.indexOf(numeral.charAt(i)) < 0) {
+                log.debug("Invalid character in Roman numeral: {}", numeral);
+                throw new RomanNumeralConversionException(
+                        "Roman numerals may only contain the letters " + ROMAN_LETTERS, "INVALID_CHARACTER");
+            }
+        }
+    }
+
+    /**
+     * Validates the number of items of a batch conversion.
+     *
+     * @param size The number of items in the batch.
+     * @throws RomanNumeralConversionException if the batch is too large.
+     */
+    public void validateBatchSize(final int size) {
+        if (size > maxBatchItems) {
+            log.debug("Batch too large: {} items, maximum is {}", size, maxBatchItems);
+            throw new RomanNumeralConversionException(
+                    "Batches must not exceed " + maxBatchItems + " items", "BATCH_TOO_LARGE");
         }
     }
 }
@@ -1,17 +1,27 @@
 package com.alex.aem;
 
+import com.jayway.jsonpath.JsonPath;
 import jakarta.annotation.Resource;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(classes = AemApplication.class)
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 class RomanNumeralConversionIntegrationTest {
 
     @Resource
@@ -54,4 +64,331 @@ class RomanNumeralConversionIntegrationTest {
         mockMvc.perform(get("/romannumeral").param("query", "4000"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void Streamed_range_conversion_request_returns_json_document() throws Exception {
+        final MvcResult result = mockMvc.perform(get("/romannumeral")
+                        .param("min", "1").param("max", "3").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.conversions.length()").value(3))
+                .andExpect(jsonPath("$.conversions[0].input").value(1))
+                .andExpect(jsonPath("$.conversions[2].output").value("III"));
+    }
+
+    @Test
+    void Streamed_range_conversion_request_returns_ndjson() throws Exception {
+        final MvcResult result = mockMvc.perform(get("/romannumeral")
+                        .param("min", "3998").param("max", "3999").param("stream", "true")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"input\":\"3998\",\"output\":\"MMMCMXCVIII\"}\n"
+                        + "{\"input\":\"3999\",\"output\":\"MMMCMXCIX\"}\n"));
+    }
+
+    @Test
+    void Range_conversion_request_accepting_csv_returns_csv() throws Exception {
+        final MvcResult result = mockMvc.perform(get("/romannumeral")
+                        .param("min", "1").param("max", "3")
+                        .accept(new MediaType("text", "csv")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(new MediaType("text", "csv")))
+                .andExpect(header().doesNotExist("X-Cache"))
+                .andExpect(content().string("input,output\n1,I\n2,II\n3,III\n"));
+    }
+
+    @Test
+    void Streamed_range_conversion_request_accepting_tsv_returns_tsv() throws Exception {
+        final MvcResult result = mockMvc.perform(get("/romannumeral")
+                        .param("min", "9").param("max", "10").param("stream", "true")
+                        .accept(new MediaType("text", "tab-separated-values")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("input\toutput\n9\tIX\n10\tX\n"));
+    }
+
+    @Test
+    void Invalid_range_request_accepting_csv_returns_json_error() throws Exception {
+        mockMvc.perform(get("/romannumeral")
+                        .param("min", "5").param("max", "1")
+                        .accept(new MediaType("text", "csv")))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errorCode").value("INVALID_RANGE"));
+    }
+
+    @Test
+    void Streamed_out_of_range_request_accepting_tsv_returns_json_error() throws Exception {
+        mockMvc.perform(get("/romannumeral").param("min", "1").param("max", "4000").param("stream", "true")
+                        .accept(new MediaType("text", "tab-separated-values")))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errorCode").value("OUT_OF_RANGE"));
+    }
+
+    @Test
+    void Streamed_out_of_range_request_returns_bad_request() throws Exception {
+        mockMvc.perform(get("/romannumeral").param("min", "1").param("max", "4000").param("stream", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("OUT_OF_RANGE"));
+    }
+
+    @Test
+    void Vinculum_number_conversion_request_returns_overlined_numeral() throws Exception {
+        mockMvc.perform(get("/romannumeral").param("query", "4001").param("notation", "vinculum"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.input").value(4001))
+                .andExpect(jsonPath("$.output").value("I\u0305V\u0305I"));
+    }
+
+    @Test
+    void Streamed_vinculum_range_conversion_request_returns_utf8_ndjson() throws Exception {
+        final MvcResult result = mockMvc.perform(get("/romannumeral")
+                        .param("min", "3999999").param("max", "3999999").param("stream", "true")
+                        .param("notation", "vinculum")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(("{\"input\":\"3999999\",\"output\":\"M\u0305M\u0305M\u0305C\u0305M\u0305"
+                        + "X\u0305C\u0305I\u0305X\u0305CMXCIX\"}\n").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void Parallel_vinculum_range_conversion_request_is_completed_asynchronously() throws Exception {
+        MvcResult result = mockMvc.perform(get("/romannumeral")
+                        .param("min", "1").param("max", "100000").param("notation", "vinculum"))
+                .andReturn();
+        // A range whose batches all complete before the controller returns is answered at once
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+
+        assertEquals(200, result.getResponse().getStatus());
+        final String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertEquals(100000, JsonPath.<Integer>read(body, "$.conversions.length()"));
+        assertEquals("C\u0305", JsonPath.read(body, "$.conversions[99999].output"));
+    }
+
+    @Test
+    void Oversized_range_request_returns_bad_request() throws Exception {
+        mockMvc.perform(get("/romannumeral").param("min", "1").param("max", "3999999").param("notation", "vinculum"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("RANGE_TOO_LARGE"));
+    }
+
+    @Test
+    void Numeral_parse_request_returns_correct_response() throws Exception {
+        mockMvc.perform(get("/romannumeral/parse").param("query", "MCMXCIV"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.input").value("MCMXCIV"))
+                .andExpect(jsonPath("$.output").value("1994"));
+    }
+
+    @Test
+    void Invalid_numeral_parse_request_returns_bad_request() throws Exception {
+        mockMvc.perform(get("/romannumeral/parse").param("query", "VX"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_NUMERAL"));
+    }
+
+    @Test
+    void Json_batch_conversion_request_returns_results_in_order() throws Exception {
+        mockMvc.perform(post("/romannumeral/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[42, \"XLII\", 4000]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].output").value("XLII"))
+                .andExpect(jsonPath("$.results[1].output").value("42"))
+                .andExpect(jsonPath("$.results[2].errorCode").value("OUT_OF_RANGE"))
+                .andExpect(jsonPath("$.results[0].errorCode").doesNotExist());
+    }
+
+    @Test
+    void Text_batch_conversion_request_returns_results_in_order() throws Exception {
+        mockMvc.perform(post("/romannumeral/batch")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("1\nMMM\n\n3999\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].output").value("I"))
+                .andExpect(jsonPath("$.results[1].output").value("3000"))
+                .andExpect(jsonPath("$.results[2].output").value("MMMCMXCIX"));
+    }
+
+    @Test
+    void Scan_request_returns_numerals_of_the_text_as_ndjson() throws Exception {
+        final MvcResult result = mockMvc.perform(post("/romannumeral/scan")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("Chapter IIII, LIVID in MCMXCIV, mcmxciv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"position\":8,\"numeral\":\"IIII\",\"value\":4,\"normalized\":\"IV\","
+                        + "\"form\":\"NON_CANONICAL\"}\n"
+                        + "{\"position\":23,\"numeral\":\"MCMXCIV\",\"value\":1994,\"normalized\":\"MCMXCIV\","
+                        + "\"form\":\"CANONICAL\"}\n"));
+    }
+
+    @Test
+    void Malformed_batch_request_returns_bad_request() throws Exception {
+        mockMvc.perform(post("/romannumeral/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[42,"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_BODY"));
+    }
+
+    @Test
+    void Cached_single_conversion_is_revalidated_with_etag() throws Exception {
+        final String etag = mockMvc.perform(get("/romannumeral").param("query", "42"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "public, max-age=86400"))
+                .andExpect(jsonPath("$.output").value("XLII"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/romannumeral").param("query", "42").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    void Range_conversion_is_cached_after_first_request() throws Exception {
+        final String etag = mockMvc.perform(get("/romannumeral").param("min", "10").param("max", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Cache", "MISS"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/romannumeral").param("min", "10").param("max", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Cache", "HIT"))
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.conversions.length()").value(11))
+                .andExpect(jsonPath("$.conversions[10].output").value("XX"));
+    }
+
+    @Test
+    void Conversion_metrics_are_exposed_in_prometheus_format() throws Exception {
+        mockMvc.perform(get("/romannumeral").param("query", "7"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/romannumeral").param("query", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("roman_requests_seconds_bucket{mode=\"single\",outcome=\"success\"")))
+                .andExpect(content().string(containsString("roman_errors_total{code=\"OUT_OF_RANGE\"}")))
+                .andExpect(content().string(containsString("roman_cache_requests_total")))
+                .andExpect(content().string(containsString("roman_engine_table_footprint_bytes")));
+    }
+
+    @Test
+    void Request_id_is_generated_or_propagated() throws Exception {
+        mockMvc.perform(get("/romannumeral").param("query", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Request-Id"));
+
+        mockMvc.perform(get("/romannumeral").param("query", "5").header("X-Request-Id", "client-123"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Request-Id", "client-123"));
+    }
+
+    @Test
+    void Range_pages_are_linked_by_cursor_until_the_last_page() throws Exception {
+        final MvcResult first = mockMvc.perform(get("/romannumeral")
+                        .param("min", "1").param("max", "5").param("limit", "2").param("offset", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conversions.length()").value(2))
+                .andExpect(jsonPath("$.conversions[0].output").value("II"))
+                .andExpect(jsonPath("$.conversions[1].output").value("III"))
+                .andExpect(jsonPath("$.offset").value(1))
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(header().string("Link", containsString("rel=\"next\"")))
+                .andReturn();
+        final String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/romannumeral").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conversions.length()").value(2))
+                .andExpect(jsonPath("$.conversions[0].output").value("IV"))
+                .andExpect(jsonPath("$.conversions[1].output").value("V"))
+                .andExpect(jsonPath("$.offset").value(3))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    void Range_page_in_csv_carries_next_link() throws Exception {
+        final MvcResult result = mockMvc.perform(get("/romannumeral")
+                        .param("min", "1").param("max", "3999").param("limit", "2")
+                        .accept(new MediaType("text", "csv")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Link", containsString("/romannumeral?cursor=")))
+                .andExpect(content().string("input,output\n1,I\n2,II\n"));
+    }
+
+    @Test
+    void Invalid_cursor_returns_bad_request() throws Exception {
+        mockMvc.perform(get("/romannumeral").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    void Range_delta_returns_only_the_conversions_outside_the_held_range() throws Exception {
+        mockMvc.perform(get("/romannumeral")
+                        .param("min", "3").param("max", "6").param("heldMin", "1").param("heldMax", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.heldMax").value(4))
+                .andExpect(jsonPath("$.segments.length()").value(1))
+                .andExpect(jsonPath("$.segments[0].min").value(5))
+                .andExpect(jsonPath("$.segments[0].max").value(6))
+                .andExpect(jsonPath("$.segments[0].conversions[1].output").value("VI"));
+    }
+
+    @Test
+    void Range_delta_in_csv_writes_every_segment_in_order() throws Exception {
+        final MvcResult result = mockMvc.perform(get("/romannumeral")
+                        .param("min", "1").param("max", "6").param("heldMin", "3").param("heldMax", "4")
+                        .accept(new MediaType("text", "csv")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("input,output\n1,I\n2,II\n5,V\n6,VI\n"));
+    }
+
+    @Test
+    void Range_delta_without_held_max_returns_bad_request() throws Exception {
+        mockMvc.perform(get("/romannumeral").param("min", "1").param("max", "6").param("heldMin", "3"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_PARAMETERS"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.alex.aem;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Serves requests over cleartext HTTP/2 (h2c) with the {@code throughput} server profile.
+ */
+@SpringBootTest(classes = AemApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("throughput")
+class ThroughputProfileIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+
+    @Test
+    void Single_conversion_is_served_over_h2c() throws Exception {
+        final HttpResponse<String> response = get("/romannumeral?query=1994");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, response.version());
+        assertEquals("{\"input\":\"1994\",\"output\":\"MCMXCIV\"}", response.body());
+    }
+
+    @Test
+    void Range_conversion_is_served_over_h2c() throws Exception {
+        final HttpResponse<String> range = get("/romannumeral?min=1&max=3");
+
+        assertEquals(200, range.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, range.version());
+        assertTrue(range.body().contains("{\"input\":\"3\",\"output\":\"III\"}"));
+    }
+
+    private HttpResponse<String> get(final String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
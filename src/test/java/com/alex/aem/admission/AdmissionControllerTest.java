@@ -0,0 +1,62 @@
+package com.alex.aem.admission;
+
+import com.alex.aem.exception.AdmissionRejectedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControllerTest {
+
+    private AdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        admissionController = new AdmissionController(2, 1, 1, 5000, 0);
+    }
+
+    @Test
+    void Requests_beyond_endpoint_concurrency_are_rejected() throws Exception {
+        try (AdmissionController.Permit ignored = admissionController.admit(AdmissionController.Endpoint.STREAM, 10)) {
+            final AdmissionRejectedException e = assertThrows(AdmissionRejectedException.class,
+                    () -> admissionController.admit(AdmissionController.Endpoint.STREAM, 10));
+            assertEquals("TOO_MANY_REQUESTS", e.getErrorCode());
+            assertEquals(1, admissionController.getInFlight(AdmissionController.Endpoint.STREAM));
+        }
+        assertEquals(0, admissionController.getInFlight(AdmissionController.Endpoint.STREAM));
+        assertEquals(1, admissionController.getRejections(AdmissionController.Endpoint.STREAM,
+                AdmissionController.Rejection.CONCURRENCY));
+    }
+
+    @Test
+    void Ranges_beyond_cost_budget_are_rejected() throws Exception {
+        try (AdmissionController.Permit ignored = admissionController.admit(AdmissionController.Endpoint.RANGE, 3999)) {
+            assertEquals(3999, admissionController.getCostInFlight());
+            final AdmissionRejectedException e = assertThrows(AdmissionRejectedException.class,
+                    () -> admissionController.admit(AdmissionController.Endpoint.RANGE, 3999));
+            assertEquals("SERVICE_OVERLOADED", e.getErrorCode());
+            // The rejected range must not keep its concurrency slot
+            assertEquals(1, admissionController.getInFlight(AdmissionController.Endpoint.RANGE));
+        }
+        assertEquals(0, admissionController.getCostInFlight());
+    }
+
+    @Test
+    void Range_larger_than_budget_is_admitted_alone() throws Exception {
+        try (AdmissionController.Permit ignored = admissionController.admit(AdmissionController.Endpoint.RANGE, 100_000)) {
+            assertEquals(5000, admissionController.getCostInFlight());
+            assertThrows(AdmissionRejectedException.class,
+                    () -> admissionController.admit(AdmissionController.Endpoint.RANGE, 1));
+        }
+    }
+
+    @Test
+    void Permit_is_released_once() throws Exception {
+        final AdmissionController.Permit permit = admissionController.admit(AdmissionController.Endpoint.BATCH, 1);
+        permit.close();
+        permit.close();
+        admissionController.admit(AdmissionController.Endpoint.BATCH, 1);
+        assertThrows(AdmissionRejectedException.class,
+                () -> admissionController.admit(AdmissionController.Endpoint.BATCH, 1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.alex.aem.admission;
+
+import com.alex.aem.controller.RangeCursor;
+import com.alex.aem.service.RomanNotation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionFilterTest {
+
+    private AdmissionController admissionController;
+    private AdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        admissionController = new AdmissionController(1, 1, 1, 5000, 0);
+        filter = new AdmissionFilter(admissionController, 2);
+    }
+
+    private static MockHttpServletRequest rangeRequest(final int min, final int max) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/romannumeral");
+        request.setParameter("min", Integer.toString(min));
+        request.setParameter("max", Integer.toString(max));
+        return request;
+    }
+
+    @Test
+    void Range_is_rejected_with_retry_after_while_another_is_in_flight() throws Exception {
+        final MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(rangeRequest(1, 3999), new MockHttpServletResponse(), (request, response) -> {
+            try {
+                filter.doFilter(rangeRequest(1, 10), rejected, new MockFilterChain());
+            } catch (final Exception e) {
+                fail(e);
+            }
+        });
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getContentAsString().contains("\"errorCode\":\"TOO_MANY_REQUESTS\""));
+        assertEquals(0, admissionController.getInFlight(AdmissionController.Endpoint.RANGE));
+    }
+
+    @Test
+    void Single_conversions_are_never_limited() throws Exception {
+        filter.doFilter(rangeRequest(1, 3999), new MockHttpServletResponse(), (request, response) -> {
+            final MockHttpServletRequest single = new MockHttpServletRequest("GET", "/romannumeral");
+            single.setParameter("query", "42");
+            final MockHttpServletResponse singleResponse = new MockHttpServletResponse();
+            final MockFilterChain chain = new MockFilterChain();
+            try {
+                filter.doFilter(single, singleResponse, chain);
+            } catch (final Exception e) {
+                fail(e);
+            }
+            assertEquals(200, singleResponse.getStatus());
+            assertNotNull(chain.getRequest());
+        });
+    }
+
+    @Test
+    void Cursor_requests_are_admitted_and_charged_for_their_page() throws Exception {
+        final MockHttpServletRequest page = new MockHttpServletRequest("GET", "/romannumeral");
+        page.setParameter("cursor", new RangeCursor(1, 3999, 3950, 100, RomanNotation.STANDARD).encode());
+        filter.doFilter(page, new MockHttpServletResponse(), (request, response) -> {
+            assertEquals(1, admissionController.getInFlight(AdmissionController.Endpoint.RANGE));
+            assertEquals(49, admissionController.getCostInFlight());
+
+            final MockHttpServletResponse rejected = new MockHttpServletResponse();
+            try {
+                filter.doFilter(rangeRequest(1, 10), rejected, new MockFilterChain());
+            } catch (final Exception e) {
+                fail(e);
+            }
+            assertEquals(429, rejected.getStatus());
+        });
+
+        assertEquals(0, admissionController.getInFlight(AdmissionController.Endpoint.RANGE));
+        assertEquals(0, admissionController.getCostInFlight());
+    }
+
+    @Test
+    void Offset_pages_are_charged_like_the_same_page_by_cursor() throws Exception {
+        final MockHttpServletRequest page = rangeRequest(1, 3999);
+        page.setParameter("offset", "3950");
+        page.setParameter("limit", "100");
+        filter.doFilter(page, new MockHttpServletResponse(),
+                (request, response) -> assertEquals(49, admissionController.getCostInFlight()));
+
+        assertEquals(0, admissionController.getCostInFlight());
+    }
+}
@@ -0,0 +1,66 @@
+package com.alex.aem.cache;
+
+import com.alex.aem.service.LookupTableRomanNumeralEngine;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionResponseCacheTest {
+
+    private static final LookupTableRomanNumeralEngine engine = new LookupTableRomanNumeralEngine();
+
+    @Test
+    void Single_responses_are_pre_rendered() {
+        final ConversionResponseCache cache = new ConversionResponseCache(engine, 10, 1024);
+
+        final ConversionResponseCache.CachedResponse response = cache.getSingle(42);
+
+        assertEquals("{\"input\":\"42\",\"output\":\"XLII\"}", new String(response.body(), StandardCharsets.UTF_8));
+        assertTrue(response.etag().startsWith("\"") && response.etag().endsWith("\""));
+        assertNotEquals(response.etag(), cache.getSingle(43).etag());
+        assertEquals(2, cache.getSingleHits());
+    }
+
+    @Test
+    void Range_responses_are_counted_as_hits_and_misses() {
+        final ConversionResponseCache cache = new ConversionResponseCache(engine, 10, 1024);
+
+        assertNull(cache.getRange(1, 3));
+        final ConversionResponseCache.CachedResponse stored = cache.putRange(1, 3, new byte[]{1, 2, 3});
+
+        assertSame(stored, cache.getRange(1, 3));
+        assertEquals(1, cache.getRangeHits());
+        assertEquals(1, cache.getRangeMisses());
+    }
+
+    @Test
+    void Least_recently_used_range_is_evicted_when_entries_exceed_the_limit() {
+        final ConversionResponseCache cache = new ConversionResponseCache(engine, 2, 1024);
+        cache.putRange(1, 1, new byte[10]);
+        cache.putRange(2, 2, new byte[10]);
+        cache.getRange(1, 1);
+        cache.putRange(3, 3, new byte[10]);
+
+        assertNotNull(cache.getRange(1, 1));
+        assertNull(cache.getRange(2, 2));
+        assertNotNull(cache.getRange(3, 3));
+        assertEquals(1, cache.getRangeEvictions());
+        assertEquals(20, cache.getRangeBytes());
+    }
+
+    @Test
+    void Ranges_are_evicted_when_bytes_exceed_the_limit() {
+        final ConversionResponseCache cache = new ConversionResponseCache(engine, 10, 100);
+        cache.putRange(1, 1, new byte[60]);
+        cache.putRange(2, 2, new byte[60]);
+        cache.putRange(3, 3, new byte[200]);
+
+        assertNull(cache.getRange(1, 1));
+        assertNotNull(cache.getRange(2, 2));
+        assertNull(cache.getRange(3, 3));
+        assertEquals(1, cache.getRangeEntries());
+        assertEquals(60, cache.getRangeBytes());
+    }
+}
@@ -0,0 +1,57 @@
+package com.alex.aem.controller;
+
+import com.alex.aem.data.RomanNumeralData;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionFormatTest {
+
+    @Test
+    void Missing_or_unknown_accept_header_negotiates_json() {
+        assertEquals(ConversionFormat.JSON, ConversionFormat.negotiate(null));
+        assertEquals(ConversionFormat.JSON, ConversionFormat.negotiate("*/*"));
+        assertEquals(ConversionFormat.JSON, ConversionFormat.negotiate("application/xml"));
+        assertEquals(ConversionFormat.JSON, ConversionFormat.negotiate("not a media type"));
+    }
+
+    @Test
+    void Most_preferred_supported_type_is_negotiated() {
+        assertEquals(ConversionFormat.CSV, ConversionFormat.negotiate("text/csv"));
+        assertEquals(ConversionFormat.TSV, ConversionFormat.negotiate("application/xml, text/tab-separated-values"));
+        assertEquals(ConversionFormat.BINARY,
+                ConversionFormat.negotiate("application/json;q=0.5, application/x-roman-conversions"));
+        assertEquals(ConversionFormat.NDJSON, ConversionFormat.negotiate("text/csv;q=0, application/x-ndjson"));
+    }
+
+    @Test
+    void Csv_format_writes_header_and_one_line_per_conversion() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConversionFormat.CSV.write(ConversionStreamWriter.Conversions.of(
+                Stream.of(new RomanNumeralData("1", "I"), new RomanNumeralData("2", "II"))), out);
+
+        assertEquals("input,output\n1,I\n2,II\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void Binary_format_writes_length_prefixed_records() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConversionFormat.BINARY.write(ConversionStreamWriter.Conversions.of(Stream.of(
+                new RomanNumeralData("3999", "MMMCMXCIX"), new RomanNumeralData("4001", "I\u0305V\u0305I"))), out);
+
+        final ByteBuffer records = ByteBuffer.wrap(out.toByteArray());
+        assertEquals(3999, records.getInt());
+        final byte[] numeral = new byte[records.get()];
+        records.get(numeral);
+        assertEquals("MMMCMXCIX", new String(numeral, StandardCharsets.US_ASCII));
+        assertEquals(4001, records.getInt());
+        assertEquals(7, records.get());
+        records.position(records.position() + 7);
+        assertFalse(records.hasRemaining());
+    }
+}
@@ -0,0 +1,39 @@
+package com.alex.aem.controller;
+
+import com.alex.aem.exception.RomanNumeralConversionException;
+import com.alex.aem.service.RomanNotation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeCursorTest {
+
+    @Test
+    void Encoded_cursor_decodes_to_the_same_page() {
+        final RangeCursor cursor = new RangeCursor(10, 3_000_000, 250, 50, RomanNotation.VINCULUM);
+        assertEquals(cursor, RangeCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void Next_cursor_advances_by_the_limit_until_the_end_of_the_range() {
+        final RangeCursor cursor = new RangeCursor(1, 5, 0, 2, RomanNotation.STANDARD);
+        assertEquals(2, cursor.next().offset());
+        assertEquals(4, cursor.next().next().offset());
+        assertNull(cursor.next().next().next());
+    }
+
+    @Test
+    void Next_cursor_does_not_overflow() {
+        assertNull(new RangeCursor(1, 3999, Integer.MAX_VALUE - 1, 10, RomanNotation.STANDARD).next());
+    }
+
+    @Test
+    void Malformed_cursor_is_rejected() {
+        for (final String cursor : new String[]{"", "%%%", "MTox", new RangeCursor(1, 2, 0, 1, RomanNotation.STANDARD)
+                .encode().substring(2)}) {
+            final RomanNumeralConversionException e = assertThrows(RomanNumeralConversionException.class,
+                    () -> RangeCursor.decode(cursor));
+            assertEquals("INVALID_CURSOR", e.getErrorCode());
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.alex.aem.controller;
 import com.alex.aem.data.RomanNumeralConversionsData;
 import com.alex.aem.data.RomanNumeralData;
 import com.alex.aem.exception.RomanNumeralConversionException;
+import com.alex.aem.metrics.ConversionMetrics;
+import com.alex.aem.service.RomanNotation;
 import com.alex.aem.service.RomanNumeralConverterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,12 +14,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
+// Mockito cannot generate mocks in a native image
+@DisabledInAotMode
 @ExtendWith(MockitoExtension.class)
 class RomanNumeralControllerTest {
 
@@ -25,16 +36,19 @@ class RomanNumeralControllerTest {
 
     private RomanNumeralController controller;
 
+    private final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
     @BeforeEach
     void setUp() {
-        controller = new RomanNumeralController(converterService);
+        controller = new RomanNumeralController(converterService, new ConversionMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
     void Single_number_conversion_returns_correct_result() {
-        when(converterService.convertOneNumber(5)).thenReturn(new RomanNumeralData("5", "V"));
+        when(converterService.convertOneNumber(5, RomanNotation.STANDARD)).thenReturn(new RomanNumeralData("5", "V"));
 
-        final ResponseEntity<?> response = controller.handleConversion(5, null, null);
+        final ResponseEntity<?> response = (ResponseEntity<?>) controller.handleConversion(
+                5, null, null, null, null, null, null, null, null, null, servletResponse);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertInstanceOf(RomanNumeralData.class, response.getBody());
@@ -50,10 +64,11 @@ class RomanNumeralControllerTest {
                 new RomanNumeralData("2", "II"),
                 new RomanNumeralData("3", "III")
         );
-        when(converterService.convertMultipleNumbers(1, 3))
-                .thenReturn(new RomanNumeralConversionsData(conversions));
+        when(converterService.convertMultipleNumbersAsync(1, 3, RomanNotation.STANDARD))
+                .thenReturn(CompletableFuture.completedFuture(new RomanNumeralConversionsData(conversions)));
 
-        final ResponseEntity<?> response = controller.handleConversion(null, 1, 3);
+        final ResponseEntity<?> response = (ResponseEntity<?>) controller.handleConversion(
+                null, 1, 3, null, null, null, null, null, null, null, servletResponse);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertInstanceOf(RomanNumeralConversionsData.class, response.getBody());
@@ -66,34 +81,108 @@ class RomanNumeralControllerTest {
                 .anyMatch(data -> data.input().equals("3") && "III".equals(data.output())));
     }
 
+    @Test
+    void Range_conversion_in_progress_releases_the_request_until_it_completes() {
+        final CompletableFuture<RomanNumeralConversionsData> conversion = new CompletableFuture<>();
+        when(converterService.convertMultipleNumbersAsync(1, 3, RomanNotation.STANDARD)).thenReturn(conversion);
+
+        final DeferredResult<?> result = assertInstanceOf(DeferredResult.class,
+                controller.handleConversion(null, 1, 3, null, null, null, null, null, null, null, servletResponse));
+        assertFalse(result.hasResult());
+
+        conversion.complete(new RomanNumeralConversionsData(List.of(new RomanNumeralData("1", "I"))));
+        final ResponseEntity<?> completed = assertInstanceOf(ResponseEntity.class, result.getResult());
+        assertEquals(HttpStatus.OK, completed.getStatusCode());
+        assertInstanceOf(RomanNumeralConversionsData.class, completed.getBody());
+    }
+
+    @Test
+    void Range_conversion_failure_is_the_error_result_of_the_deferred_result() {
+        final CompletableFuture<RomanNumeralConversionsData> conversion = new CompletableFuture<>();
+        when(converterService.convertMultipleNumbersAsync(1, 3, RomanNotation.STANDARD)).thenReturn(conversion);
+
+        final DeferredResult<?> result = assertInstanceOf(DeferredResult.class,
+                controller.handleConversion(null, 1, 3, null, null, null, null, null, null, null, servletResponse));
+        conversion.completeExceptionally(new TimeoutException());
+
+        assertInstanceOf(TimeoutException.class, result.getResult());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, controller.handleTimeout(new TimeoutException()).getStatusCode());
+    }
+
+    @Test
+    void Compact_range_conversion_returns_streaming_body_with_content_type() {
+        when(converterService.convertMultipleNumbersAsync(1, 3, RomanNotation.STANDARD))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new RomanNumeralConversionsData(List.of(new RomanNumeralData("1", "I")))));
+
+        final Object result = controller.handleConversion(
+                null, 1, 3, null, null, null, null, null, null, "text/csv", servletResponse);
+
+        assertInstanceOf(StreamingResponseBody.class, result);
+        assertEquals("text/csv", servletResponse.getContentType());
+    }
+
     @Test
     void Invalid_missing_max_parameter_combination_returns_bad_request() {
-        final ResponseEntity<?> response = controller.handleConversion(null, 1, null);
+        final ResponseEntity<?> response = (ResponseEntity<?>) controller.handleConversion(
+                null, 1, null, null, null, null, null, null, null, null, servletResponse);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
     @Test
     void Invalid_missing_min_parameter_combination_returns_bad_request() {
-        final ResponseEntity<?> response = controller.handleConversion(null, null, 7);
+        final ResponseEntity<?> response = (ResponseEntity<?>) controller.handleConversion(
+                null, null, 7, null, null, null, null, null, null, null, servletResponse);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
     @Test
     void Invalid_missing_all_parameters_combination_returns_bad_request() {
-        final ResponseEntity<?> response = controller.handleConversion(null, null, null);
+        final ResponseEntity<?> response = (ResponseEntity<?>) controller.handleConversion(
+                null, null, null, null, null, null, null, null, null, null, servletResponse);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
     @Test
     void Conversion_exception_returns_bad_request() {
-        when(converterService.convertOneNumber(4000))
+        when(converterService.convertOneNumber(4000, RomanNotation.STANDARD))
                 .thenThrow(new RomanNumeralConversionException("Number out of range", "OUT_OF_RANGE"));
 
-        final ResponseEntity<?> response = controller.handleConversion(4000, null, null);
+        final ResponseEntity<?> response = (ResponseEntity<?>) controller.handleConversion(
+                4000, null, null, null, null, null, null, null, null, null, servletResponse);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void Unknown_notation_returns_bad_request() {
+        final ResponseEntity<?> response = (ResponseEntity<?>) controller.handleConversion(
+                5, null, null, "apostrophus", null, null, null, null, null, null, servletResponse);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void Numeral_parse_returns_correct_result() {
+        when(converterService.parse("XLII")).thenReturn(new RomanNumeralData("XLII", "42"));
+
+        final ResponseEntity<?> response = controller.handleParse("XLII");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        final RomanNumeralData result = (RomanNumeralData) response.getBody();
+        assertEquals("42", result.output());
+    }
+
+    @Test
+    void Invalid_numeral_parse_returns_bad_request() {
+        when(converterService.parse("IIII"))
+                .thenThrow(new RomanNumeralConversionException("IIII is not a valid Roman numeral", "INVALID_NUMERAL"));
+
+        final ResponseEntity<?> response = controller.handleParse("IIII");
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
-}
\ No newline at end of file
+}
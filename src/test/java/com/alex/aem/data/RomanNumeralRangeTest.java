@@ -0,0 +1,46 @@
+package com.alex.aem.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RomanNumeralRangeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void Column_range_builds_records_on_access() {
+        final RomanNumeralRange range = RomanNumeralRange.of(8, new String[]{"VIII", "IX", "X"});
+
+        assertEquals(3, range.size());
+        assertEquals(10, range.number(2));
+        assertEquals(new RomanNumeralData("9", "IX"), range.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> range.get(3));
+    }
+
+    @Test
+    void Table_range_returns_shared_records() {
+        final String[] numerals = {null, "I", "II", "III", "IV"};
+        final RomanNumeralData[] records = new RomanNumeralData[numerals.length];
+        for (int number = 1; number < numerals.length; number++) {
+            records[number] = new RomanNumeralData(Integer.toString(number), numerals[number]);
+        }
+        final RomanNumeralRange range = RomanNumeralRange.ofTables(2, 3, numerals, records);
+
+        assertEquals(List.of(records[2], records[3]), range);
+        assertSame(records[3], range.get(1));
+    }
+
+    @Test
+    void Range_serializes_like_a_list_of_records() throws Exception {
+        final RomanNumeralRange range = RomanNumeralRange.of(9, new String[]{"IX", "X"});
+
+        assertEquals(objectMapper.writeValueAsString(new RomanNumeralConversionsData(List.copyOf(range))),
+                objectMapper.writeValueAsString(new RomanNumeralConversionsData(range)));
+        assertEquals("{\"conversions\":[{\"input\":\"9\",\"output\":\"IX\"},{\"input\":\"10\",\"output\":\"X\"}]}",
+                objectMapper.writeValueAsString(new RomanNumeralConversionsData(range)));
+    }
+}
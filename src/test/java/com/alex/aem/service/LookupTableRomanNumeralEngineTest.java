@@ -0,0 +1,47 @@
+package com.alex.aem.service;
+
+import com.alex.aem.data.RomanNumeralData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookupTableRomanNumeralEngineTest {
+
+    private AlgorithmicRomanNumeralEngine algorithmicEngine;
+    private LookupTableRomanNumeralEngine lookupEngine;
+
+    @BeforeEach
+    void setUp() {
+        algorithmicEngine = new AlgorithmicRomanNumeralEngine();
+        lookupEngine = new LookupTableRomanNumeralEngine(algorithmicEngine);
+    }
+
+    @Test
+    void Lookup_table_matches_algorithmic_engine_for_whole_domain() {
+        for (int number = 1; number <= LookupTableRomanNumeralEngine.MAX_NUMBER; number++) {
+            assertEquals(algorithmicEngine.convert(number), lookupEngine.convert(number));
+            assertEquals(Integer.toString(number), lookupEngine.toData(number).input());
+        }
+    }
+
+    @Test
+    void Lookup_returns_shared_result_instances() {
+        final RomanNumeralData first = lookupEngine.toData(1994);
+        assertSame(first, lookupEngine.toData(1994));
+        assertEquals("MCMXCIV", first.output());
+    }
+
+    @Test
+    void Pre_encoded_numeral_matches_the_conversion() {
+        assertEquals("MMMCMXCIX", new String(lookupEngine.utf8(3999), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void Build_statistics_are_reported() {
+        assertTrue(lookupEngine.getBuildTimeNanos() > 0);
+        assertTrue(lookupEngine.getFootprintBytes() > 0);
+    }
+}
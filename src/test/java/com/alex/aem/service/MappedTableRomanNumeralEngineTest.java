@@ -0,0 +1,95 @@
+package com.alex.aem.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedTableRomanNumeralEngineTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void Mapped_table_matches_algorithmic_engine_for_whole_domain() {
+        final AlgorithmicRomanNumeralEngine algorithmicEngine = new AlgorithmicRomanNumeralEngine();
+        final MappedTableRomanNumeralEngine mappedEngine = engine(3999, true);
+
+        for (int number = 1; number <= LookupTableRomanNumeralEngine.MAX_NUMBER; number++) {
+            assertEquals(algorithmicEngine.convert(number), mappedEngine.convert(number));
+        }
+        assertTrue(Files.exists(directory.resolve("numerals.table")));
+    }
+
+    @Test
+    void Extended_table_serves_vinculum_numerals() {
+        final MappedTableRomanNumeralEngine mappedEngine = engine(10_000, true);
+        final VinculumRomanNumeralFormatter expected =
+                new VinculumRomanNumeralFormatter(new AlgorithmicRomanNumeralEngine());
+
+        assertEquals(10_000, mappedEngine.getMaxNumber());
+        assertEquals(expected.convert(4_001), mappedEngine.convert(4_001));
+        assertEquals(expected.convert(9_999), new VinculumRomanNumeralFormatter(mappedEngine).convert(9_999));
+        assertEquals(expected.convert(12_345), new VinculumRomanNumeralFormatter(mappedEngine).convert(12_345));
+    }
+
+    @Test
+    void Existing_table_is_mapped_without_generating() throws IOException {
+        RomanNumeralTableFile.write(directory.resolve("numerals.table"), 3999, number -> "X");
+
+        assertEquals("X", engine(3999, false).convert(1994));
+    }
+
+    @Test
+    void Missing_table_fails_when_generation_is_disabled() {
+        assertThrows(UncheckedIOException.class, () -> engine(3999, false));
+    }
+
+    @Test
+    void Corrupted_table_is_rejected_or_regenerated() throws IOException {
+        final Path file = directory.resolve("numerals.table");
+        RomanNumeralTableFile.write(file, 3999, new AlgorithmicRomanNumeralEngine()::convert);
+        overwrite(file, Files.size(file) - 1, (byte) 'Z');
+
+        final IOException e = assertThrows(IOException.class, () -> RomanNumeralTableFile.open(file));
+        assertTrue(e.getMessage().contains("checksum"));
+        assertEquals("MMMCMXCIX", engine(3999, true).convert(3999));
+    }
+
+    @Test
+    void Table_of_another_format_version_is_rejected() throws IOException {
+        final Path file = directory.resolve("numerals.table");
+        RomanNumeralTableFile.write(file, 3999, new AlgorithmicRomanNumeralEngine()::convert);
+        overwrite(file, 4, (byte) (RomanNumeralTableFile.FORMAT_VERSION + 1));
+
+        final IOException e = assertThrows(IOException.class, () -> RomanNumeralTableFile.open(file));
+        assertTrue(e.getMessage().contains("format version"));
+    }
+
+    @Test
+    void Table_ending_below_the_configured_number_is_regenerated() throws IOException {
+        RomanNumeralTableFile.write(directory.resolve("numerals.table"), 3999,
+                new AlgorithmicRomanNumeralEngine()::convert);
+
+        assertThrows(IllegalStateException.class, () -> engine(5000, false));
+        assertEquals(5000, engine(5000, true).getMaxNumber());
+    }
+
+    private MappedTableRomanNumeralEngine engine(final int maxNumber, final boolean generate) {
+        return new MappedTableRomanNumeralEngine(directory.resolve("numerals.table").toString(), maxNumber, generate);
+    }
+
+    private static void overwrite(final Path file, final long position, final byte value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{value}), position);
+        }
+    }
+}
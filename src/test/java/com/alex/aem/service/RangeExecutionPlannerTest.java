@@ -0,0 +1,58 @@
+package com.alex.aem.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeExecutionPlannerTest {
+
+    private final RomanNumeralEngine engine = new LookupTableRomanNumeralEngine();
+
+    private RangeExecutionPlanner planner(final String mode, final int batchSize, final long itemCostNanos) {
+        return new RangeExecutionPlanner(engine, mode, batchSize, 4, 50_000, 2_000, itemCostNanos);
+    }
+
+    @Test
+    void Cheap_range_runs_sequentially() {
+        final RangeExecutionPlanner.Plan plan = planner("adaptive", 0, 5).plan(1, 3999);
+
+        assertEquals(RangeExecutionMode.SEQUENTIAL, plan.mode());
+        assertEquals(1, plan.numBatches());
+        assertEquals(3999, plan.batchSize());
+    }
+
+    @Test
+    void Expensive_range_runs_on_fork_join_with_balanced_batches() {
+        final RangeExecutionPlanner.Plan plan = planner("adaptive", 0, 200).plan(1, 3999);
+
+        assertEquals(RangeExecutionMode.FORK_JOIN, plan.mode());
+        // 4 workers with 4 batches each
+        assertEquals(250, plan.batchSize());
+        assertEquals(16, plan.numBatches());
+    }
+
+    @Test
+    void Batches_amortize_the_task_overhead() {
+        // 2000 ns overhead at 50 ns per number requires at least 400 numbers per batch
+        final RangeExecutionPlanner.Plan plan = planner("fork-join", 0, 50).plan(1, 3999);
+
+        assertEquals(400, plan.batchSize());
+        assertEquals(10, plan.numBatches());
+    }
+
+    @Test
+    void Configured_batch_size_and_mode_take_precedence() {
+        final RangeExecutionPlanner planner = planner("virtual-threads", 100, 5);
+        final RangeExecutionPlanner.Plan plan = planner.plan(1, 1050);
+
+        assertEquals(RangeExecutionMode.VIRTUAL_THREADS, plan.mode());
+        assertEquals(100, plan.batchSize());
+        assertEquals(11, plan.numBatches());
+        assertEquals(1, planner.getExecutionCount(RangeExecutionMode.VIRTUAL_THREADS));
+    }
+
+    @Test
+    void Item_cost_is_calibrated_when_not_configured() {
+        assertTrue(planner("adaptive", 0, 0).getItemCostNanos() > 0);
+    }
+}
@@ -1,14 +1,26 @@
 package com.alex.aem.service;
 
+import com.alex.aem.data.RomanNumeralBatchData;
+import com.alex.aem.data.RomanNumeralBatchItem;
 import com.alex.aem.data.RomanNumeralConversionsData;
 import com.alex.aem.data.RomanNumeralData;
+import com.alex.aem.data.RomanNumeralRange;
+import com.alex.aem.data.RomanNumeralRangeDelta;
+import com.alex.aem.data.RomanNumeralRangeSegment;
 import com.alex.aem.exception.RomanNumeralConversionException;
+import com.alex.aem.metrics.ConversionMetrics;
 import com.alex.aem.validator.RomanValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,10 +30,20 @@ class RomanNumeralConverterServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new RomanNumeralConverterService();
-        RomanValidator validator = new RomanValidator();
-        ReflectionTestUtils.setField(service, "configuredBatchSize", 0);
+        service = createService(RangeExecutionMode.ADAPTIVE);
+    }
+
+    private static RomanNumeralConverterService createService(final RangeExecutionMode mode) {
+        final RomanNumeralConverterService service = new RomanNumeralConverterService();
+        final RomanValidator validator = new RomanValidator();
+        final LookupTableRomanNumeralEngine engine = new LookupTableRomanNumeralEngine();
         ReflectionTestUtils.setField(service, "validator", validator);
+        ReflectionTestUtils.setField(service, "engine", engine);
+        ReflectionTestUtils.setField(service, "vinculumFormatter", new VinculumRomanNumeralFormatter(engine));
+        ReflectionTestUtils.setField(service, "planner",
+                new RangeExecutionPlanner(engine, mode.name(), 0, 0, 50_000, 2_000, 0));
+        ReflectionTestUtils.setField(service, "metrics", new ConversionMetrics(new SimpleMeterRegistry()));
+        return service;
     }
 
     @Test
@@ -83,6 +105,18 @@ class RomanNumeralConverterServiceTest {
                 .anyMatch(data -> data.input().equals("3999") && "MMMCMXCIX".equals(data.output())));
     }
 
+    @ParameterizedTest
+    @EnumSource(RangeExecutionMode.class)
+    void Range_conversion_returns_ordered_results_in_every_execution_mode(final RangeExecutionMode mode) {
+        final RomanNumeralConversionsData result = createService(mode).convertMultipleNumbers(7, 3999);
+        assertEquals(3993, result.conversions().size());
+
+        int expected = 7;
+        for (final RomanNumeralData data : result.conversions()) {
+            assertEquals(Integer.toString(expected++), data.input());
+        }
+    }
+
     @Test
     void Range_same_number_conversion_returns_correct_results() {
         final RomanNumeralConversionsData result = service.convertMultipleNumbers(6, 6);
@@ -93,6 +127,202 @@ class RomanNumeralConverterServiceTest {
         assertEquals("VI", number.output());
     }
 
+    @Test
+    void Standard_range_conversion_is_served_from_engine_tables() {
+        final LookupTableRomanNumeralEngine engine = new LookupTableRomanNumeralEngine();
+        ReflectionTestUtils.setField(service, "engine", engine);
+
+        final RomanNumeralConversionsData result = service.convertMultipleNumbers(1, 3999);
+
+        final RomanNumeralRange range = assertInstanceOf(RomanNumeralRange.class, result.conversions());
+        assertSame(engine.toData(1994), range.get(1993));
+    }
+
+    @Test
+    void Vinculum_range_conversion_returns_numeral_column() {
+        final RomanNumeralConversionsData result = service.convertMultipleNumbers(3999, 4001, RomanNotation.VINCULUM);
+
+        final RomanNumeralRange range = assertInstanceOf(RomanNumeralRange.class, result.conversions());
+        assertEquals(3999, range.getMin());
+        assertEquals("MMMCMXCIX", range.numeral(0));
+        assertEquals(new RomanNumeralData("4001", "I\u0305V\u0305I"), range.get(2));
+    }
+
+    @Test
+    void Streamed_range_conversion_returns_results_in_order() {
+        final List<RomanNumeralData> result = service.streamMultipleNumbers(1, 3999).toList();
+        assertEquals(3999, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(Integer.toString(i + 1), result.get(i).input());
+        }
+        assertEquals("MMMCMXCIX", result.get(3998).output());
+    }
+
+    @Test
+    void Streamed_invalid_range_throws_exception_before_consumption() {
+        assertThrows(RomanNumeralConversionException.class, () -> service.streamMultipleNumbers(0, 10));
+    }
+
+    @Test
+    void Vinculum_number_conversion_returns_overlined_thousands() {
+        final RomanNumeralData result = service.convertOneNumber(3_999_999, RomanNotation.VINCULUM);
+        assertEquals("3999999", result.input());
+        assertEquals("M\u0305M\u0305M\u0305C\u0305M\u0305X\u0305C\u0305I\u0305X\u0305CMXCIX", result.output());
+    }
+
+    @Test
+    void Vinculum_number_above_range_throws_exception() {
+        assertThrows(RomanNumeralConversionException.class,
+                () -> service.convertOneNumber(4_000_000, RomanNotation.VINCULUM));
+    }
+
+    @Test
+    void Range_larger_than_maximum_size_throws_exception() {
+        final RomanNumeralConversionException e = assertThrows(RomanNumeralConversionException.class,
+                () -> service.convertMultipleNumbers(1, 3_000_000, RomanNotation.VINCULUM));
+        assertEquals("RANGE_TOO_LARGE", e.getErrorCode());
+    }
+
+    @Test
+    void Range_page_converts_only_the_page_of_a_range_larger_than_maximum_size() {
+        final RomanNumeralConversionsData result = service.convertRangePage(1, 3_999_999, 2_999_999, 3,
+                RomanNotation.VINCULUM);
+
+        final RomanNumeralRange range = assertInstanceOf(RomanNumeralRange.class, result.conversions());
+        assertEquals(3, range.size());
+        assertEquals(3_000_000, range.getMin());
+        assertEquals("M\u0305M\u0305M\u0305", range.numeral(0));
+    }
+
+    @Test
+    void Range_page_is_truncated_at_the_end_of_the_range() {
+        assertEquals(2, service.convertRangePage(1, 10, 8, 5, RomanNotation.STANDARD).conversions().size());
+        assertTrue(service.convertRangePage(1, 10, 10, 5, RomanNotation.STANDARD).conversions().isEmpty());
+    }
+
+    @Test
+    void Range_page_with_invalid_limit_throws_exception() {
+        final RomanNumeralConversionException e = assertThrows(RomanNumeralConversionException.class,
+                () -> service.convertRangePage(1, 10, 0, 0, RomanNotation.STANDARD));
+        assertEquals("INVALID_LIMIT", e.getErrorCode());
+    }
+
+    @Test
+    void Range_delta_returns_only_the_segments_outside_the_held_range() {
+        final RomanNumeralRangeDelta grown = service.convertRangeDelta(1, 2500, 1, 2000, RomanNotation.STANDARD);
+        assertEquals(1, grown.segments().size());
+        final RomanNumeralRangeSegment after = grown.segments().get(0);
+        assertEquals(2001, after.min());
+        assertEquals(2500, after.max());
+        assertEquals(500, after.conversions().size());
+        assertEquals(new RomanNumeralData("2001", "MMI"), after.conversions().iterator().next());
+
+        final RomanNumeralRangeDelta widened = service.convertRangeDelta(1, 10, 4, 6, RomanNotation.STANDARD);
+        assertEquals(List.of(1, 7), widened.segments().stream().map(RomanNumeralRangeSegment::min).toList());
+        assertEquals(List.of(3, 10), widened.segments().stream().map(RomanNumeralRangeSegment::max).toList());
+    }
+
+    @Test
+    void Range_delta_of_a_covered_or_disjoint_range() {
+        assertTrue(service.convertRangeDelta(5, 8, 1, 10, RomanNotation.STANDARD).segments().isEmpty());
+
+        final List<RomanNumeralRangeSegment> disjoint =
+                service.convertRangeDelta(20, 30, 1, 10, RomanNotation.STANDARD).segments();
+        assertEquals(1, disjoint.size());
+        assertEquals(11, disjoint.get(0).conversions().size());
+    }
+
+    @Test
+    void Range_delta_segments_slice_the_engine_tables() {
+        final RomanNumeralRangeSegment segment =
+                service.convertRangeDelta(1, 3999, 1, 3000, RomanNotation.STANDARD).segments().get(0);
+        final RomanNumeralRange range = assertInstanceOf(RomanNumeralRange.class, segment.conversions());
+
+        assertSame(service.convertOneNumber(3001), range.get(0));
+    }
+
+    @Test
+    void Range_delta_limits_only_the_missing_conversions() {
+        final RomanValidator validator = new RomanValidator();
+        ReflectionTestUtils.setField(validator, "maxRangeSize", 10);
+        ReflectionTestUtils.setField(service, "validator", validator);
+
+        assertEquals(10, service.convertRangeDelta(1, 110, 1, 100, RomanNotation.STANDARD)
+                .segments().get(0).conversions().size());
+        final RomanNumeralConversionException e = assertThrows(RomanNumeralConversionException.class,
+                () -> service.convertRangeDelta(1, 111, 1, 100, RomanNotation.STANDARD));
+        assertEquals("RANGE_TOO_LARGE", e.getErrorCode());
+    }
+
+    @Test
+    void Range_delta_with_inverted_held_range_throws_exception() {
+        final RomanNumeralConversionException e = assertThrows(RomanNumeralConversionException.class,
+                () -> service.convertRangeDelta(1, 10, 6, 5, RomanNotation.STANDARD));
+        assertEquals("INVALID_HELD_RANGE", e.getErrorCode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RangeExecutionMode.class)
+    void Streamed_vinculum_range_conversion_returns_results_in_order(final RangeExecutionMode mode) {
+        final VinculumRomanNumeralFormatter formatter =
+                new VinculumRomanNumeralFormatter(new LookupTableRomanNumeralEngine());
+        final Iterator<RomanNumeralData> iterator = createService(mode)
+                .streamMultipleNumbers(3_000_000, 3_999_999, RomanNotation.VINCULUM).iterator();
+        for (int number = 3_000_000; number <= 3_999_999; number++) {
+            final RomanNumeralData data = iterator.next();
+            assertEquals(Integer.toString(number), data.input());
+            assertEquals(formatter.convert(number), data.output());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void Numeral_parse_returns_correct_result() {
+        final RomanNumeralData result = service.parse("MMMCDLVIII");
+        assertEquals("MMMCDLVIII", result.input());
+        assertEquals("3458", result.output());
+    }
+
+    @Test
+    void Non_canonical_numeral_parse_throws_exception() {
+        final RomanNumeralConversionException e =
+                assertThrows(RomanNumeralConversionException.class, () -> service.parse("IIII"));
+        assertEquals("INVALID_NUMERAL", e.getErrorCode());
+    }
+
+    @Test
+    void Numeral_with_invalid_characters_throws_exception() {
+        final RomanNumeralConversionException e =
+                assertThrows(RomanNumeralConversionException.class, () -> service.parse("X1"));
+        assertEquals("INVALID_CHARACTER", e.getErrorCode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RangeExecutionMode.class)
+    void Batch_conversion_returns_results_in_order_with_per_item_errors(final RangeExecutionMode mode) {
+        final RomanNumeralBatchData result = createService(mode)
+                .convertBatch(Arrays.asList("42", "MCMXCIV", "4000", "IIII", null, "99999999999"));
+
+        final List<RomanNumeralBatchItem> items = result.results();
+        assertEquals(6, items.size());
+        assertEquals(RomanNumeralBatchItem.success("42", "XLII"), items.get(0));
+        assertEquals(RomanNumeralBatchItem.success("MCMXCIV", "1994"), items.get(1));
+        assertEquals("OUT_OF_RANGE", items.get(2).errorCode());
+        assertEquals("INVALID_NUMERAL", items.get(3).errorCode());
+        assertEquals("MISSING_NUMERAL", items.get(4).errorCode());
+        assertEquals("OUT_OF_RANGE", items.get(5).errorCode());
+    }
+
+    @Test
+    void Large_batch_conversion_keeps_item_order() {
+        final List<String> numbers = IntStream.iterate(3999, i -> i > 0, i -> i - 1).mapToObj(Integer::toString).toList();
+        final List<RomanNumeralBatchItem> items = createService(RangeExecutionMode.FORK_JOIN).convertBatch(numbers).results();
+
+        assertEquals(3999, items.size());
+        assertEquals("MMMCMXCIX", items.get(0).output());
+        assertEquals("I", items.get(3998).output());
+    }
+
     @Test
     void Number_below_range_throws_exception() {
         assertThrows(RomanNumeralConversionException.class, () -> service.convertOneNumber(0));
@@ -0,0 +1,66 @@
+package com.alex.aem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RomanNumeralEncoderTest {
+
+    private final AlgorithmicRomanNumeralEngine engine = new AlgorithmicRomanNumeralEngine();
+
+    @Test
+    void Encoded_bytes_match_engine_for_every_number() {
+        final byte[] roomy = new byte[64];
+        for (int number = 1; number <= 3999; number++) {
+            final String expected = engine.convert(number);
+            final int length = RomanNumeralEncoder.encode(number, roomy, 7);
+            assertEquals(expected, new String(roomy, 7, length, StandardCharsets.US_ASCII));
+
+            final byte[] exact = new byte[expected.length()];
+            assertEquals(exact.length, RomanNumeralEncoder.encode(number, exact, 0));
+            assertEquals(expected, new String(exact, StandardCharsets.US_ASCII));
+            assertEquals(expected.length(), RomanNumeralEncoder.length(number));
+        }
+    }
+
+    @Test
+    void Encoded_chars_match_engine_for_every_number() {
+        final char[] chars = new char[RomanNumeralEncoder.MAX_LENGTH + 1];
+        for (int number = 1; number <= 3999; number++) {
+            final int length = RomanNumeralEncoder.encode(number, chars, 1);
+            assertEquals(engine.convert(number), new String(chars, 1, length));
+        }
+    }
+
+    @Test
+    void Encoding_into_buffers_advances_the_position() {
+        for (final ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64),
+                ByteBuffer.allocate(16), ByteBuffer.allocateDirect(16)}) {
+            for (int number = 1; number <= 3999; number++) {
+                buffer.clear().put((byte) '[');
+                final int length = RomanNumeralEncoder.encode(number, buffer);
+                assertEquals(1 + length, buffer.position());
+                final byte[] numeral = new byte[length];
+                buffer.get(1, numeral);
+                assertEquals(engine.convert(number), new String(numeral, StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    @Test
+    void Encoding_into_a_buffer_never_writes_past_its_limit() {
+        final byte[] backing = new byte[32];
+        Arrays.fill(backing, (byte) '-');
+        final ByteBuffer slice = ByteBuffer.wrap(backing, 2, 4).slice();
+
+        RomanNumeralEncoder.encode(8, slice);
+
+        assertEquals("--VIII------", new String(backing, 0, 12, StandardCharsets.US_ASCII));
+        assertThrows(BufferOverflowException.class, () -> RomanNumeralEncoder.encode(3888, ByteBuffer.allocate(14)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.alex.aem.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RomanNumeralParserTest {
+
+    @Test
+    void Every_converted_numeral_parses_back_to_its_number() {
+        final RomanNumeralEngine engine = new AlgorithmicRomanNumeralEngine();
+        for (int number = 1; number <= 3999; number++) {
+            assertEquals(number, RomanNumeralParser.parse(engine.convert(number)));
+        }
+    }
+
+    @Test
+    void Numeral_inside_larger_text_is_parsed() {
+        assertEquals(1994, RomanNumeralParser.parse("year MCMXCIV.", 5, 12));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "IIII", "VV", "IL", "IC", "XM", "VX", "MMMM", "CMC", "IXI", "XCX", "DD", "LXL", "iv", "MCMXCIVI"})
+    void Non_canonical_numerals_are_rejected(final String numeral) {
+        assertEquals(RomanNumeralParser.INVALID, RomanNumeralParser.parse(numeral));
+    }
+}
@@ -0,0 +1,104 @@
+package com.alex.aem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RomanNumeralScannerTest {
+
+    private final LookupTableRomanNumeralEngine engine = new LookupTableRomanNumeralEngine();
+    private final RomanNumeralScanner scanner = new RomanNumeralScanner(engine);
+
+    private record Match(long position, String numeral, int value, RomanNumeralScanner.Form form) {
+    }
+
+    @Test
+    void Every_canonical_numeral_is_found_with_its_value() throws IOException {
+        for (int number = 1; number <= LookupTableRomanNumeralEngine.MAX_NUMBER; number++) {
+            final String numeral = engine.convert(number);
+
+            assertEquals(List.of(new Match(1, numeral, number, RomanNumeralScanner.Form.CANONICAL)),
+                    scan("(" + numeral + ")", true));
+            assertEquals(List.of(new Match(0, numeral.toLowerCase(), number, RomanNumeralScanner.Form.LOWER_CASE)),
+                    scan(numeral.toLowerCase(), true));
+        }
+    }
+
+    @Test
+    void Non_canonical_numerals_are_found_with_their_value() throws IOException {
+        final List<Match> matches = scan("IIII, VX, XIIII and MDCCCCX", true);
+
+        assertEquals(List.of(
+                new Match(0, "IIII", 4, RomanNumeralScanner.Form.NON_CANONICAL),
+                new Match(6, "VX", 5, RomanNumeralScanner.Form.NON_CANONICAL),
+                new Match(10, "XIIII", 14, RomanNumeralScanner.Form.NON_CANONICAL),
+                new Match(20, "MDCCCCX", 1910, RomanNumeralScanner.Form.NON_CANONICAL)), matches);
+    }
+
+    @Test
+    void Invalid_letters_and_words_are_skipped() throws IOException {
+        assertEquals(List.of(), scan("IIIII VV VIV LXL IIX IVX IM XM VL MMMM LIVID DIM civil XI2 x_i MÉDICO", true));
+    }
+
+    @Test
+    void Lower_case_numerals_are_only_found_when_canonical() throws IOException {
+        assertEquals(List.of(new Match(0, "mcmxciv", 1994, RomanNumeralScanner.Form.LOWER_CASE)),
+                scan("mcmxciv iiii xiiii Vx", true));
+    }
+
+    @Test
+    void Words_of_an_english_sentence_are_not_numerals() throws IOException {
+        final String sentence = "I did mix the mid civic vivid mill. Did I?";
+
+        assertEquals(List.of(
+                new Match(0, "I", 1, RomanNumeralScanner.Form.CANONICAL),
+                new Match(40, "I", 1, RomanNumeralScanner.Form.CANONICAL)), scan(sentence, false));
+        assertEquals(List.of(
+                new Match(0, "I", 1, RomanNumeralScanner.Form.CANONICAL),
+                new Match(6, "mix", 1009, RomanNumeralScanner.Form.LOWER_CASE),
+                new Match(40, "I", 1, RomanNumeralScanner.Form.CANONICAL)), scan(sentence, true));
+        assertEquals(List.of(), scan("DID THE MID CIVIC VIVID MILL DIM? VIV IM", true));
+    }
+
+    @Test
+    void Lower_case_is_skipped_unless_ignored() throws IOException {
+        assertEquals(List.of(new Match(4, "XIV", 14, RomanNumeralScanner.Form.CANONICAL)), scan("xiv XIV mIx", false));
+    }
+
+    @Test
+    void Numerals_spanning_chunks_of_a_stream_are_found() throws IOException {
+        final byte[] text = "Louis XIV died in MDCCXV, aged lxxvi.".getBytes(StandardCharsets.UTF_8);
+        final InputStream oneByteAtATime = new ByteArrayInputStream(text) {
+            @Override
+            public int read(final byte[] b, final int off, final int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+        final List<Match> matches = new ArrayList<>();
+
+        final long scanned = scanner.scan(oneByteAtATime, true, collect(matches));
+
+        assertEquals(text.length, scanned);
+        assertEquals(scan("Louis XIV died in MDCCXV, aged lxxvi.", true), matches);
+        assertEquals(3, matches.size());
+        assertEquals(new Match(31, "lxxvi", 76, RomanNumeralScanner.Form.LOWER_CASE), matches.get(2));
+    }
+
+    private List<Match> scan(final String text, final boolean ignoreCase) throws IOException {
+        final List<Match> matches = new ArrayList<>();
+        scanner.scan(text.getBytes(StandardCharsets.UTF_8), ignoreCase, collect(matches));
+        return matches;
+    }
+
+    private static RomanNumeralScanner.MatchConsumer collect(final List<Match> matches) {
+        return (position, numeral, length, value, form) -> matches.add(
+                new Match(position, new String(numeral, 0, length, StandardCharsets.US_ASCII), value, form));
+    }
+}
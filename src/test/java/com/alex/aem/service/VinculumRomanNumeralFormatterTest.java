@@ -0,0 +1,42 @@
+package com.alex.aem.service;
+
+import com.alex.aem.data.RomanNumeralData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VinculumRomanNumeralFormatterTest {
+
+    private LookupTableRomanNumeralEngine engine;
+    private VinculumRomanNumeralFormatter formatter;
+
+    @BeforeEach
+    void setUp() {
+        engine = new LookupTableRomanNumeralEngine();
+        formatter = new VinculumRomanNumeralFormatter(engine);
+    }
+
+    @Test
+    void Numbers_below_4000_use_standard_notation() {
+        for (int number = 1; number <= LookupTableRomanNumeralEngine.MAX_NUMBER; number++) {
+            assertEquals(engine.convert(number), formatter.convert(number));
+        }
+        assertSame(engine.toData(3999), formatter.toData(3999));
+    }
+
+    @Test
+    void Thousands_are_overlined() {
+        assertEquals("I\u0305V\u0305", formatter.convert(4000));
+        assertEquals("I\u0305V\u0305I", formatter.convert(4001));
+        assertEquals("M\u0305", formatter.convert(1_000_000));
+        assertEquals("X\u0305L\u0305I\u0305I\u0305CMXCIX", formatter.convert(42_999));
+    }
+
+    @Test
+    void Result_holds_decimal_input() {
+        final RomanNumeralData result = formatter.toData(1_234_567);
+        assertEquals("1234567", result.input());
+        assertEquals("M\u0305C\u0305C\u0305X\u0305X\u0305X\u0305I\u0305V\u0305DLXVII", result.output());
+    }
+}